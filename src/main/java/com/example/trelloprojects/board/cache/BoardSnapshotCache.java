@@ -0,0 +1,48 @@
+package com.example.trelloprojects.board.cache;
+
+import com.example.trelloprojects.board.dto.BoardColumnResponseDto;
+import com.example.trelloprojects.common.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.function.Supplier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보드 id 별 스냅샷 캐시. 스냅샷은 만들어질 당시의 보드 변경 버전(board.change_version)과 함께 저장되고,
+ * 조회 시점의 버전과 같을 때만 사용된다. 버전은 커밋된 값을 읽으므로 오래된 스냅샷이 새 버전으로 나가는 일이 없다.
+ */
+@Component
+public class BoardSnapshotCache {
+
+    private final BoundedCache<Long, VersionedSnapshot> cache;
+    private final Timer rebuildTimer;
+
+    public BoardSnapshotCache(MeterRegistry meterRegistry,
+            @Value("${board.snapshot-cache.max-size:500}") int maxSize) {
+        this.cache = new BoundedCache<Long, VersionedSnapshot>(maxSize)
+                .bindTo(meterRegistry, "board.snapshot");
+        this.rebuildTimer = Timer.builder("board.snapshot.rebuild")
+                .register(meterRegistry);
+    }
+
+    public BoardColumnResponseDto get(Long boardId, long version,
+            Supplier<BoardColumnResponseDto> loader) {
+        VersionedSnapshot cached = cache.get(boardId);
+        if (cached != null && cached.version() == version) {
+            return cached.snapshot();
+        }
+
+        BoardColumnResponseDto snapshot = rebuildTimer.record(loader);
+        cache.put(boardId, new VersionedSnapshot(version, snapshot));
+        return snapshot;
+    }
+
+    public void invalidate(Long boardId) {
+        cache.invalidate(boardId);
+    }
+
+    private record VersionedSnapshot(long version, BoardColumnResponseDto snapshot) {
+
+    }
+}
@@ -2,12 +2,18 @@ package com.example.trelloprojects.board.controller;
 
 
 import com.example.trelloprojects.board.dto.BoardColumnResponseDto;
+import com.example.trelloprojects.board.dto.BoardDeltaResponseDto;
+import com.example.trelloprojects.board.dto.BoardReorderRequestDto;
 import com.example.trelloprojects.board.dto.BoardRequestDto;
 import com.example.trelloprojects.board.dto.UpdateBoardColor;
 import com.example.trelloprojects.board.dto.UpdateBoardDescription;
 import com.example.trelloprojects.board.dto.UpdateBoardName;
+import com.example.trelloprojects.board.service.BoardDeltaService;
+import com.example.trelloprojects.board.service.BoardReorderService;
 import com.example.trelloprojects.board.service.BoardService;
 import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.BoardMemberOnly;
+import com.example.trelloprojects.member.annotation.WorkspaceMemberOnly;
 import lombok.AllArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -18,7 +24,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @AllArgsConstructor
 @RestController
@@ -26,9 +34,12 @@ import org.springframework.web.bind.annotation.RestController;
 public class BoardController {
 
     private final BoardService boardService;
+    private final BoardDeltaService boardDeltaService;
+    private final BoardReorderService boardReorderService;
 
     //Board 생성
 
+    @WorkspaceMemberOnly
     @PostMapping("/boards/{workspaceId}")
     public ResponseEntity<MsgResponseDto> createBoard(@RequestBody BoardRequestDto requestDto,
             @PathVariable Long workspaceId) {
@@ -38,12 +49,37 @@ public class BoardController {
 
 
     //특정 Board 조회-> board 안에 모든 컬럼이 보이는 것으로
+    //If-None-Match 가 현재 버전과 같으면 보드를 불러오지 않고 304 응답
+    @BoardMemberOnly
     @GetMapping("/boards/{boardId}")
-    public ResponseEntity<BoardColumnResponseDto> getOneBoard(@PathVariable Long boardId) {
-        return ResponseEntity.ok().body(boardService.getOneBoard(boardId));
+    public ResponseEntity<BoardColumnResponseDto> getOneBoard(@PathVariable Long boardId,
+            WebRequest webRequest) {
+        String eTag = boardService.getBoardETag(boardId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok().eTag(eTag).body(boardService.getOneBoard(boardId));
+    }
+
+    //since 버전 이후 변경된 컬럼/카드만 조회
+    @BoardMemberOnly
+    @GetMapping("/boards/{boardId}/changes")
+    public ResponseEntity<BoardDeltaResponseDto> getChanges(@PathVariable Long boardId,
+            @RequestParam Long since) {
+        return ResponseEntity.ok().body(boardDeltaService.getChangesSince(boardId, since));
+    }
+
+    //카드/컬럼 이동 여러 건을 한 번에 적용 (전부 성공하거나 전부 실패)
+    @BoardMemberOnly
+    @PutMapping("/boards/{boardId}/reorder")
+    public ResponseEntity<MsgResponseDto> reorder(@PathVariable Long boardId,
+            @RequestBody BoardReorderRequestDto requestDto) {
+        boardReorderService.reorder(boardId, requestDto);
+        return ResponseEntity.ok().body(new MsgResponseDto("보드 재정렬 완료", HttpStatus.OK.value()));
     }
 
     //BoardName 변경ㅍ
+    @BoardMemberOnly
     @PutMapping("/boards/{boardId}/name")
     public ResponseEntity<MsgResponseDto> changeBoardName(@PathVariable Long boardId,
             @RequestBody UpdateBoardName requestDto) {
@@ -53,6 +89,7 @@ public class BoardController {
     }
 
     //BoardDescription 변경
+    @BoardMemberOnly
     @PutMapping("/boards/{boardId}/description")
     public ResponseEntity<MsgResponseDto> changeBoardDescription(@PathVariable Long boardId,
             @RequestBody UpdateBoardDescription requestDto) {
@@ -61,6 +98,7 @@ public class BoardController {
                 .body(new MsgResponseDto("보드 설명수정 완료", HttpStatus.CREATED.value()));
     }
 
+    @BoardMemberOnly
     @PutMapping("/boards/{boardId}/color")
     public ResponseEntity<MsgResponseDto> changeBoardDescription(@PathVariable Long boardId,
             @RequestBody UpdateBoardColor requestDto) {
@@ -71,6 +109,7 @@ public class BoardController {
 
     //Board 삭제
 
+    @BoardMemberOnly
     @DeleteMapping("/boards/{boardId}")
     public ResponseEntity<MsgResponseDto> deleteBoard(@PathVariable Long boardId) {
         boardService.deleteBoard(boardId);
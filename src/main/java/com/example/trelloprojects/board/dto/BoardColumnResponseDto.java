@@ -19,6 +19,7 @@ public class BoardColumnResponseDto {
   private String name;
   private String description;
   private ColorEnum color;
+  private Long version;
   private List<ColumnsResponse> columns;
 
   public BoardColumnResponseDto(Board board) {
@@ -26,6 +27,16 @@ public class BoardColumnResponseDto {
     this.name = board.getName();
     this.description = board.getDescription();
     this.color = board.getColor();
+    this.version = board.getChangeVersion();
     this.columns = board.getColumns().stream().map(ColumnsResponse::new).toList();
   }
+
+  public BoardColumnResponseDto(Board board, List<ColumnsResponse> columns) {
+    this.id = board.getId();
+    this.name = board.getName();
+    this.description = board.getDescription();
+    this.color = board.getColor();
+    this.version = board.getChangeVersion();
+    this.columns = columns;
+  }
 }
@@ -0,0 +1,32 @@
+package com.example.trelloprojects.board.dto;
+
+import com.example.trelloprojects.card.dto.CardChangeDto;
+import com.example.trelloprojects.columns.dto.ColumnChangeDto;
+import com.example.trelloprojects.common.entity.ColorEnum;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * since 이후의 변경분. 로그가 정리되어 변경분을 만들 수 없으면 fullSnapshot 이 true 이고 snapshot 에 전체 보드가 담긴다.
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardDeltaResponseDto {
+
+    private Long id;
+    private Long version;
+    private boolean fullSnapshot;
+    private BoardColumnResponseDto snapshot;
+    private String name;
+    private String description;
+    private ColorEnum color;
+    private List<ColumnChangeDto> columns;
+    private List<CardChangeDto> cards;
+}
@@ -0,0 +1,16 @@
+package com.example.trelloprojects.board.dto;
+
+import com.example.trelloprojects.card.dto.CardMoveRequestDto;
+import com.example.trelloprojects.columns.dto.ColumnMoveRequestDto;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 이동은 목록 순서대로 적용된다. position 은 해당 이동을 적용하는 시점의 0 부터 시작하는 위치
+@Getter
+public class BoardReorderRequestDto {
+
+    private List<CardMoveRequestDto> cards = new ArrayList<>();
+    private List<ColumnMoveRequestDto> columns = new ArrayList<>();
+
+}
@@ -0,0 +1,29 @@
+package com.example.trelloprojects.board.dto;
+
+import com.example.trelloprojects.common.entity.ColorEnum;
+import lombok.Getter;
+
+// 대시보드용 보드 요약. BoardRepository.findSummaries 의 생성자 표현식으로만 만들어진다
+@Getter
+public class BoardSummaryDto {
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final ColorEnum color;
+    private final long columnCount;
+    private final long cardCount;
+    private final long overdueCardCount; // 마감일이 지났고 완료되지 않은 카드
+    private final long memberCount; // 보드의 카드에 할당된 서로 다른 작업자 수
+
+    public BoardSummaryDto(Long id, String name, String description, ColorEnum color,
+            Long columnCount, Long cardCount, Long overdueCardCount, Long memberCount) {
+        this.id = id;
+        this.name = name;
+        this.description = description;
+        this.color = color;
+        this.columnCount = columnCount;
+        this.cardCount = cardCount;
+        this.overdueCardCount = overdueCardCount;
+        this.memberCount = memberCount;
+    }
+}
@@ -54,6 +54,14 @@ public class Board {
     @JoinColumn(name = "workspace_id")
     private Workspace workspace;
 
+    // 보드 하위 변경이 있을 때마다 BoardRepository.increaseChangeVersion 으로만 증가한다
+    @Column(nullable = false, updatable = false)
+    private Long changeVersion = 0L;
+
+    // 컬럼 수. 컬럼 추가/삭제 시 BoardRepository.increaseColumnCount 로만 바뀐다
+    @Column(nullable = false, updatable = false)
+    private Long columnCount = 0L;
+
 
     @OneToMany(mappedBy = "board", cascade = CascadeType.ALL)
     private List<Columns> columns = new ArrayList<>();
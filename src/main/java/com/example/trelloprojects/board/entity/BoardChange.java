@@ -0,0 +1,64 @@
+package com.example.trelloprojects.board.entity;
+
+import com.example.trelloprojects.board.enums.BoardChangeTarget;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보드 변경 로그. sequence 는 변경 직후의 board.change_version 값이라 보드 안에서 빈틈없이 증가한다.
+ */
+@Entity
+@Getter
+@Table(name = "board_change", indexes = {
+        @Index(name = "idx_board_change_board_sequence", columnList = "board_id, sequence", unique = true),
+        @Index(name = "idx_board_change_created_at", columnList = "created_at")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardChange {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(nullable = false)
+    private Long sequence;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BoardChangeTarget target;
+
+    @Column(nullable = false)
+    private Long targetId;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private BoardChangeType type;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    public BoardChange(Long boardId, Long sequence, BoardChangeTarget target, Long targetId,
+            BoardChangeType type) {
+        this.boardId = boardId;
+        this.sequence = sequence;
+        this.target = target;
+        this.targetId = targetId;
+        this.type = type;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.trelloprojects.board.enums;
+
+public enum BoardChangeTarget {
+    BOARD,
+    COLUMN,
+    CARD
+}
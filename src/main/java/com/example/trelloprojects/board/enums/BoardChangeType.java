@@ -0,0 +1,10 @@
+package com.example.trelloprojects.board.enums;
+
+public enum BoardChangeType {
+    INSERTED,
+    UPDATED,
+    MOVED,
+    DELETED,
+    // 대량 등록처럼 변경이 너무 많을 때. 델타 대신 전체 스냅샷을 받아야 한다
+    RELOADED
+}
@@ -0,0 +1,25 @@
+package com.example.trelloprojects.board.repository;
+
+import com.example.trelloprojects.board.entity.BoardChange;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BoardChangeRepository extends JpaRepository<BoardChange, Long> {
+
+    boolean existsByBoardIdAndSequence(Long boardId, Long sequence);
+
+    List<BoardChange> findAllByBoardIdAndSequenceGreaterThanOrderBySequenceAsc(Long boardId,
+            Long sequence);
+
+    @Query("SELECT c.id FROM BoardChange c WHERE c.createdAt < :before ORDER BY c.id")
+    List<Long> findIdsCreatedBefore(@Param("before") LocalDateTime before, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM BoardChange c WHERE c.boardId = :boardId")
+    int deleteAllByBoardId(@Param("boardId") Long boardId);
+}
@@ -1,11 +1,63 @@
 package com.example.trelloprojects.board.repository;
 
+import com.example.trelloprojects.board.dto.BoardSummaryDto;
 import com.example.trelloprojects.board.entity.Board;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
     List<Board> findAllByWorkspaceId(Long workspaceId);
+
+    /**
+     * 워크스페이스 대시보드 한 페이지. 카드 수는 컬럼 카운터의 합이고, 지연 카드 수와 작업자 수는
+     * 페이지에 든 보드마다 상관 서브쿼리로 세므로 보드/카드 엔티티를 읽지 않는다.
+     */
+    @Query("SELECT new com.example.trelloprojects.board.dto.BoardSummaryDto(b.id, b.name, b.description,"
+            + " b.color, b.columnCount,"
+            + " (SELECT COALESCE(SUM(c.cardCount), 0L) FROM Columns c WHERE c.board.id = b.id),"
+            + " (SELECT COUNT(k) FROM Card k WHERE k.columns.board.id = b.id"
+            + " AND k.deadLine < :now AND k.doneAt IS NULL),"
+            + " (SELECT COUNT(DISTINCT uc.user.id) FROM UserCard uc WHERE uc.card.columns.board.id = b.id))"
+            + " FROM Board b WHERE b.workspace.id = :workspaceId AND b.id > :after ORDER BY b.id")
+    List<BoardSummaryDto> findSummaries(@Param("workspaceId") Long workspaceId,
+            @Param("after") Long after, @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT b.id FROM Board b WHERE b.workspace.id = :workspaceId ORDER BY b.id")
+    List<Long> findIdsByWorkspaceId(@Param("workspaceId") Long workspaceId);
+
+    @Query("SELECT b.changeVersion FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findChangeVersionById(@Param("boardId") Long boardId);
+
+    @Query("SELECT b.workspace.id FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findWorkspaceIdById(@Param("boardId") Long boardId);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.changeVersion = b.changeVersion + :amount WHERE b.id = :boardId")
+    void increaseChangeVersion(@Param("boardId") Long boardId, @Param("amount") long amount);
+
+    @Query("SELECT b.columnCount FROM Board b WHERE b.id = :boardId")
+    Optional<Long> findColumnCountById(@Param("boardId") Long boardId);
+
+    // 보드 행 잠금을 잡으므로 같은 보드의 컬럼 추가는 한 줄로 세워진다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Board b SET b.columnCount = b.columnCount + :delta WHERE b.id = :boardId")
+    int increaseColumnCount(@Param("boardId") Long boardId, @Param("delta") long delta);
+
+    @Modifying
+    @Query("UPDATE Board b SET b.columnCount = (SELECT COUNT(c) FROM Columns c WHERE c.board.id = b.id)"
+            + " WHERE b.columnCount = 0 AND EXISTS (SELECT c FROM Columns c WHERE c.board.id = b.id)")
+    int backfillColumnCount();
+
+    // cascade 로 하위 엔티티를 모두 읽지 않도록 하위 행을 먼저 지운 뒤 보드 행만 지운다
+    @Modifying
+    @Query("DELETE FROM Board b WHERE b.id = :boardId")
+    int deleteRowById(@Param("boardId") Long boardId);
 }
@@ -0,0 +1,46 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.repository.BoardChangeRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보존 기간이 지난 보드 변경 로그를 정해진 크기만큼 나눠서 지운다.
+ * 정리된 구간을 요청하는 클라이언트는 BoardDeltaService 에서 전체 스냅샷을 받는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardChangeLogCompactor {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final BoardChangeRepository boardChangeRepository;
+
+    @Value("${board.change-log.retention:7d}")
+    private Duration retention;
+
+    @Scheduled(cron = "${board.change-log.compaction-cron:0 0 4 * * *}")
+    public void compact() {
+        LocalDateTime before = LocalDateTime.now().minus(retention);
+        long deleted = 0;
+
+        List<Long> ids;
+        do {
+            ids = boardChangeRepository.findIdsCreatedBefore(before, PageRequest.of(0, BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                boardChangeRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        log.info("board change log compacted: {} rows before {}", deleted, before);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.cache.BoardSnapshotCache;
+import com.example.trelloprojects.board.entity.BoardChange;
+import com.example.trelloprojects.board.enums.BoardChangeTarget;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.repository.BoardChangeRepository;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드/카드의 변경 버전과 보드 변경 로그를 관리한다. 조회 응답의 ETag 는 이 버전으로 만들어지므로
+ * 보드 그래프를 불러오지 않고도 변경 여부를 판단할 수 있다.
+ * 보드 버전은 항상 로그 한 건과 함께 증가하므로 로그의 sequence 는 보드 안에서 연속적이다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardChangeService {
+
+    private final BoardRepository boardRepository;
+    private final CardRepository cardRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final BoardSnapshotCache boardSnapshotCache;
+
+    @Transactional
+    public void boardChanged(Long boardId) {
+        record(boardId, BoardChangeTarget.BOARD, boardId, BoardChangeType.UPDATED);
+    }
+
+    @Transactional
+    public void boardReloaded(Long boardId) {
+        record(boardId, BoardChangeTarget.BOARD, boardId, BoardChangeType.RELOADED);
+    }
+
+    @Transactional
+    public void columnChanged(Long boardId, Long columnId, BoardChangeType type) {
+        record(boardId, BoardChangeTarget.COLUMN, columnId, type);
+    }
+
+    @Transactional
+    public void cardChanged(Long boardId, Long cardId, BoardChangeType type) {
+        if (type == BoardChangeType.UPDATED) {
+            cardRepository.increaseChangeVersion(cardId);
+        }
+        record(boardId, BoardChangeTarget.CARD, cardId, type);
+    }
+
+    /**
+     * 같은 보드의 카드 여러 장이 한 번에 바뀐 경우. 보드 버전은 UPDATE 한 번으로 건수만큼 올린다.
+     */
+    @Transactional
+    public void cardsChanged(Long boardId, List<Long> cardIds, BoardChangeType type) {
+        if (type == BoardChangeType.UPDATED) {
+            cardIds.forEach(cardRepository::increaseChangeVersion);
+        }
+        recordAll(boardId, BoardChangeTarget.CARD, cardIds, type);
+    }
+
+    @Transactional
+    public void columnsChanged(Long boardId, List<Long> columnIds, BoardChangeType type) {
+        recordAll(boardId, BoardChangeTarget.COLUMN, columnIds, type);
+    }
+
+    @Transactional(readOnly = true)
+    public Long getBoardVersion(Long boardId) {
+        return boardRepository.findChangeVersionById(boardId).orElseThrow(
+                () -> new BusinessException(ErrorCode.BOARD_NOT_FOUND)
+        );
+    }
+
+    public String getBoardETag(Long boardId) {
+        return "\"board-" + boardId + "-" + getBoardVersion(boardId) + "\"";
+    }
+
+    @Transactional(readOnly = true)
+    public String getCardETag(Long cardId) {
+        Long version = cardRepository.findChangeVersionById(cardId).orElseThrow(
+                () -> new BusinessException(ErrorCode.CARD_NOT_FOUND)
+        );
+        return "\"card-" + cardId + "-" + version + "\"";
+    }
+
+    // board 행 UPDATE 가 보드 단위 락 역할을 하므로 같은 보드의 sequence 는 겹치지 않는다
+    private void record(Long boardId, BoardChangeTarget target, Long targetId,
+            BoardChangeType type) {
+        boardRepository.increaseChangeVersion(boardId, 1);
+        Long sequence = getBoardVersion(boardId);
+        boardChangeRepository.save(new BoardChange(boardId, sequence, target, targetId, type));
+        boardSnapshotCache.invalidate(boardId);
+    }
+
+    private void recordAll(Long boardId, BoardChangeTarget target, List<Long> targetIds,
+            BoardChangeType type) {
+        if (targetIds.isEmpty()) {
+            return;
+        }
+
+        boardRepository.increaseChangeVersion(boardId, targetIds.size());
+        long sequence = getBoardVersion(boardId) - targetIds.size();
+        List<BoardChange> changes = new ArrayList<>(targetIds.size());
+        for (Long targetId : targetIds) {
+            changes.add(new BoardChange(boardId, ++sequence, target, targetId, type));
+        }
+        boardChangeRepository.saveAll(changes);
+        boardSnapshotCache.invalidate(boardId);
+    }
+}
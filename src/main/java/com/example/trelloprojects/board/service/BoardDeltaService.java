@@ -0,0 +1,156 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.dto.BoardDeltaResponseDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.entity.BoardChange;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.repository.BoardChangeRepository;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.dto.CardChangeDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.dto.ColumnChangeDto;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.user_card.dto.UserCardResponseDto;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.user_card.repository.UserCardRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 클라이언트가 가진 버전(since) 이후의 변경분만 돌려준다.
+ * 로그가 정리되어 since 다음 sequence 가 없으면 전체 스냅샷으로 대체한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardDeltaService {
+
+    private final BoardRepository boardRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRepository cardRepository;
+    private final UserCardRepository userCardRepository;
+    private final BoardService boardService;
+
+    @Transactional(readOnly = true)
+    public BoardDeltaResponseDto getChangesSince(Long boardId, Long since) {
+        Board board = boardRepository.findById(boardId).orElseThrow(
+                () -> new BusinessException(ErrorCode.BOARD_NOT_FOUND)
+        );
+        Long version = board.getChangeVersion();
+
+        if (since > version || (since < version
+                && !boardChangeRepository.existsByBoardIdAndSequence(boardId, since + 1))) {
+            return fullSnapshot(boardId, version);
+        }
+
+        List<BoardChange> changes = since < version
+                ? boardChangeRepository.findAllByBoardIdAndSequenceGreaterThanOrderBySequenceAsc(
+                boardId, since)
+                : List.of();
+        if (changes.stream().anyMatch(change -> change.getType() == BoardChangeType.RELOADED)) {
+            return fullSnapshot(boardId, version);
+        }
+
+        Map<Long, BoardChangeType> columnChanges = new LinkedHashMap<>();
+        Map<Long, BoardChangeType> cardChanges = new LinkedHashMap<>();
+        for (BoardChange change : changes) {
+            switch (change.getTarget()) {
+                case COLUMN -> columnChanges.merge(change.getTargetId(), change.getType(),
+                        BoardDeltaService::collapse);
+                case CARD -> cardChanges.merge(change.getTargetId(), change.getType(),
+                        BoardDeltaService::collapse);
+                default -> {
+                    // 보드 이름/설명/색상은 응답에 항상 포함된다
+                }
+            }
+        }
+
+        return BoardDeltaResponseDto.builder()
+                .id(boardId)
+                .version(version)
+                .fullSnapshot(false)
+                .name(board.getName())
+                .description(board.getDescription())
+                .color(board.getColor())
+                .columns(toColumnChanges(columnChanges))
+                .cards(toCardChanges(cardChanges))
+                .build();
+    }
+
+    private BoardDeltaResponseDto fullSnapshot(Long boardId, Long version) {
+        return BoardDeltaResponseDto.builder()
+                .id(boardId)
+                .version(version)
+                .fullSnapshot(true)
+                .snapshot(boardService.getOneBoard(boardId))
+                .build();
+    }
+
+    private List<ColumnChangeDto> toColumnChanges(Map<Long, BoardChangeType> changes) {
+        Map<Long, Columns> alive = columnsRepository.findAllById(liveIds(changes)).stream()
+                .collect(Collectors.toMap(Columns::getId, Function.identity()));
+
+        List<ColumnChangeDto> result = new ArrayList<>();
+        changes.forEach((id, type) -> {
+            Columns columns = alive.get(id);
+            result.add(columns == null ? new ColumnChangeDto(id) : new ColumnChangeDto(columns, type));
+        });
+        return result;
+    }
+
+    private List<CardChangeDto> toCardChanges(Map<Long, BoardChangeType> changes) {
+        List<Long> liveIds = liveIds(changes);
+        if (liveIds.isEmpty()) {
+            return changes.keySet().stream().map(CardChangeDto::new).toList();
+        }
+
+        Map<Long, Card> alive = cardRepository.findAllById(liveIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+        Map<Long, List<UserCardResponseDto>> membersByCard = new HashMap<>();
+        for (UserCard userCard : userCardRepository.findAllByCardIdInWithUser(liveIds)) {
+            membersByCard.computeIfAbsent(userCard.getCard().getId(), id -> new ArrayList<>())
+                    .add(new UserCardResponseDto(userCard));
+        }
+
+        List<CardChangeDto> result = new ArrayList<>();
+        changes.forEach((id, type) -> {
+            Card card = alive.get(id);
+            result.add(card == null ? new CardChangeDto(id)
+                    : new CardChangeDto(card, type, membersByCard.getOrDefault(id, List.of())));
+        });
+        return result;
+    }
+
+    private List<Long> liveIds(Map<Long, BoardChangeType> changes) {
+        return changes.entrySet().stream()
+                .filter(entry -> entry.getValue() != BoardChangeType.DELETED)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    // 같은 대상의 변경이 여러 번이면 클라이언트가 적용할 하나의 변경으로 합친다
+    private static BoardChangeType collapse(BoardChangeType before, BoardChangeType after) {
+        if (after == BoardChangeType.DELETED) {
+            return BoardChangeType.DELETED;
+        }
+        if (before == BoardChangeType.INSERTED || before == BoardChangeType.DELETED) {
+            return BoardChangeType.INSERTED;
+        }
+        if (before == BoardChangeType.UPDATED || after == BoardChangeType.UPDATED) {
+            return BoardChangeType.UPDATED;
+        }
+        return after;
+    }
+}
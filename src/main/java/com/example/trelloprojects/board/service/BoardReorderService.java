@@ -0,0 +1,173 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.dto.BoardReorderRequestDto;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.dto.CardMoveRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.card.service.CardRankService;
+import com.example.trelloprojects.columns.dto.ColumnMoveRequestDto;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드/컬럼 이동 여러 건을 한 트랜잭션으로 적용한다. 영향받는 컬럼의 최종 순서를 메모리에서 계산하고
+ * 위치가 실제로 바뀐 행만 수정한다. 수정은 JDBC 배치로 묶여 나가며, 하나라도 실패하면 전체가 롤백된다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardReorderService {
+
+    private final BoardRepository boardRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRepository cardRepository;
+    private final CardRankService cardRankService;
+    private final BoardChangeService boardChangeService;
+
+    @Transactional
+    public void reorder(Long boardId, BoardReorderRequestDto requestDto) {
+        if (!boardRepository.existsById(boardId)) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+
+        List<Columns> orderedColumns = columnsRepository.findAllByBoardIdOrderByPositionAsc(boardId);
+        Map<Long, Columns> columns = orderedColumns.stream()
+                .collect(Collectors.toMap(Columns::getId, Function.identity(), (a, b) -> a,
+                        LinkedHashMap::new));
+
+        List<Long> movedColumnIds = moveColumns(new ArrayList<>(orderedColumns), columns,
+                requestDto.getColumns());
+        List<Long> movedCardIds = moveCards(columns, requestDto.getCards());
+
+        boardChangeService.columnsChanged(boardId, movedColumnIds, BoardChangeType.MOVED);
+        boardChangeService.cardsChanged(boardId, movedCardIds, BoardChangeType.MOVED);
+    }
+
+    private List<Long> moveColumns(List<Columns> ordered, Map<Long, Columns> columns,
+            List<ColumnMoveRequestDto> moves) {
+        for (ColumnMoveRequestDto move : moves) {
+            Columns column = findColumn(columns, move.getColumnId());
+            ordered.remove(column);
+            ordered.add(indexOf(move.getPosition(), ordered.size()), column);
+        }
+
+        List<Long> movedIds = new ArrayList<>();
+        for (int i = 0; i < ordered.size(); i++) {
+            Columns column = ordered.get(i);
+            if (!Long.valueOf(i).equals(column.getPosition())) {
+                column.setPosition((long) i);
+                movedIds.add(column.getId());
+            }
+        }
+        return movedIds;
+    }
+
+    private List<Long> moveCards(Map<Long, Columns> columns, List<CardMoveRequestDto> moves) {
+        if (moves.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> cardIds = moves.stream().map(CardMoveRequestDto::getCardId)
+                .collect(Collectors.toSet());
+        Map<Long, Card> cards = cardRepository.findAllById(cardIds).stream()
+                .collect(Collectors.toMap(Card::getId, Function.identity()));
+
+        Set<Long> affectedColumnIds = new HashSet<>();
+        for (CardMoveRequestDto move : moves) {
+            Card card = cards.get(move.getCardId());
+            if (card == null || !columns.containsKey(card.getColumns().getId())) {
+                throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+            }
+            affectedColumnIds.add(card.getColumns().getId());
+            affectedColumnIds.add(findColumn(columns, move.getColumnId()).getId());
+        }
+
+        // 영향받는 컬럼의 카드를 한 번에 읽어 컬럼별 현재 순서를 만든다
+        Map<Long, List<Card>> ordered = new HashMap<>();
+        affectedColumnIds.forEach(columnId -> ordered.put(columnId, new ArrayList<>()));
+        for (Card card : cardRepository.findAllByColumnIdIn(affectedColumnIds)) {
+            ordered.get(card.getColumns().getId()).add(card);
+        }
+
+        Set<Card> moved = new LinkedHashSet<>();
+        Map<Long, Long> countDeltas = new TreeMap<>();
+        for (CardMoveRequestDto move : moves) {
+            Card card = cards.get(move.getCardId());
+            Columns target = columns.get(move.getColumnId());
+
+            countDeltas.merge(card.getColumns().getId(), -1L, Long::sum);
+            countDeltas.merge(target.getId(), 1L, Long::sum);
+            ordered.get(card.getColumns().getId()).remove(card);
+            List<Card> targetCards = ordered.get(target.getId());
+            targetCards.add(indexOf(move.getPosition(), targetCards.size()), card);
+            card.setColumns(target);
+            moved.add(card);
+        }
+
+        ordered.forEach((columnId, columnCards) -> assignRanks(columnId, columnCards, moved));
+
+        // 컬럼 행은 id 순서로 잠근다
+        countDeltas.forEach((columnId, delta) -> {
+            if (delta != 0) {
+                columnsRepository.increaseCardCount(columnId, delta);
+            }
+        });
+        new TreeMap<>(ordered).forEach((columnId, columnCards) -> {
+            if (!columnCards.isEmpty()) {
+                columnsRepository.raiseLastCardRank(columnId,
+                        columnCards.get(columnCards.size() - 1).getRank());
+            }
+        });
+        return moved.stream().map(Card::getId).toList();
+    }
+
+    // 움직이지 않은 카드의 rank 는 그대로 두고, 움직인 카드만 앞 카드와 다음 고정 카드 사이의 rank 를 받는다
+    private void assignRanks(Long columnId, List<Card> cards, Set<Card> moved) {
+        String[] nextFixedRank = new String[cards.size() + 1];
+        for (int i = cards.size() - 1; i >= 0; i--) {
+            Card card = cards.get(i);
+            nextFixedRank[i] = moved.contains(card) ? nextFixedRank[i + 1] : card.getRank();
+        }
+
+        String before = null;
+        for (int i = 0; i < cards.size(); i++) {
+            Card card = cards.get(i);
+            if (moved.contains(card)) {
+                card.setRank(cardRankService.rankBetween(columnId, before, nextFixedRank[i + 1]));
+            }
+            before = card.getRank();
+        }
+    }
+
+    private Columns findColumn(Map<Long, Columns> columns, Long columnId) {
+        Columns column = columns.get(columnId);
+        if (column == null) {
+            throw new BusinessException(ErrorCode.COLUMN_NOT_FOUND);
+        }
+        return column;
+    }
+
+    private int indexOf(Long position, int size) {
+        if (position == null) {
+            return size;
+        }
+        return (int) Math.max(0, Math.min(position, size));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.trelloprojects.board.service;
 
+import com.example.trelloprojects.board.cache.BoardSnapshotCache;
 import com.example.trelloprojects.board.dto.BoardColumnResponseDto;
 import com.example.trelloprojects.board.dto.BoardRequestDto;
 import com.example.trelloprojects.board.dto.UpdateBoardColor;
@@ -9,6 +10,8 @@ import com.example.trelloprojects.board.entity.Board;
 import com.example.trelloprojects.board.repository.BoardRepository;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
 import com.example.trelloprojects.workspace.entity.Workspace;
 import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +24,11 @@ public class BoardService {
 
     private final BoardRepository boardRepository;
     private final WorkspaceRepository workspaceRepository;
+    private final BoardSnapshotService boardSnapshotService;
+    private final BoardSnapshotCache boardSnapshotCache;
+    private final BoardChangeService boardChangeService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+    private final BoardSubtreeDeleter boardSubtreeDeleter;
 
     @Transactional
     public void createBoard(BoardRequestDto requestDto, Long workspaceId) {
@@ -29,12 +37,16 @@ public class BoardService {
         );
         Board board = new Board(requestDto, workspace);
         boardRepository.save(board);
+        workspaceHierarchyIndex.put(HierarchyNode.BOARD, board.getId(), workspaceId);
     }
 
-    @Transactional(readOnly = true)
     public BoardColumnResponseDto getOneBoard(Long id) {
-        Board board = findBoard(id);
-        return new BoardColumnResponseDto(board);
+        Long version = boardChangeService.getBoardVersion(id);
+        return boardSnapshotCache.get(id, version, () -> boardSnapshotService.loadSnapshot(id));
+    }
+
+    public String getBoardETag(Long id) {
+        return boardChangeService.getBoardETag(id);
     }
 
     @Transactional
@@ -42,6 +54,7 @@ public class BoardService {
         Board board = findBoard(id);
 
         board.updateName(requestDto);
+        boardChangeService.boardChanged(board.getId());
     }
 
     @Transactional
@@ -49,13 +62,18 @@ public class BoardService {
         Board board = findBoard(id);
 
         board.updateDescription(requestDto);
+        boardChangeService.boardChanged(board.getId());
     }
 
-    @Transactional
+    // 트랜잭션 없이 카드 청크를 하나씩 커밋하고, 마지막에 컬럼/보드 행을 지운다
     public void deleteBoard(Long id) {
-        Board board = findBoard(id);
+        findBoard(id);
 
-        boardRepository.delete(board);
+        while (boardSubtreeDeleter.deleteBoardCards(id).full()) {
+            // 가득 찬 청크가 나오는 동안 계속 지운다
+        }
+        boardSubtreeDeleter.deleteBoardRows(id);
+        boardSnapshotCache.invalidate(id);
     }
 
     private Board findBoard(Long id) {
@@ -69,6 +87,7 @@ public class BoardService {
         Board board = findBoard(boardId);
 
         board.updateColor(requestDto);
+        boardChangeService.boardChanged(board.getId());
     }
 }
 
@@ -0,0 +1,68 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.dto.BoardColumnResponseDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.dto.CardResponseDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.dto.ColumnsResponse;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.user_card.dto.UserCardResponseDto;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.user_card.repository.UserCardRepository;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드 전체(컬럼, 카드, 작업자)를 보드 크기와 무관하게 고정된 4개의 쿼리로 조회한다.
+ * 연관관계를 따라가지 않고 보드 단위로 한 번에 가져온 뒤 메모리에서 조립한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardSnapshotService {
+
+    private final BoardRepository boardRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRepository cardRepository;
+    private final UserCardRepository userCardRepository;
+
+    @Transactional(readOnly = true)
+    public BoardColumnResponseDto loadSnapshot(Long boardId) {
+        Board board = boardRepository.findById(boardId).orElseThrow(
+                () -> new BusinessException(ErrorCode.BOARD_NOT_FOUND)
+        );
+
+        List<Columns> columns = columnsRepository.findAllByBoardIdOrderByPositionAsc(boardId);
+        List<Card> cards = cardRepository.findAllByBoardId(boardId);
+        List<UserCard> userCards = userCardRepository.findAllByBoardIdWithUser(boardId);
+
+        Map<Long, List<UserCardResponseDto>> membersByCard = new HashMap<>();
+        for (UserCard userCard : userCards) {
+            membersByCard.computeIfAbsent(userCard.getCard().getId(), id -> new ArrayList<>())
+                    .add(new UserCardResponseDto(userCard));
+        }
+
+        Map<Long, List<CardResponseDto>> cardsByColumn = new HashMap<>();
+        for (Card card : cards) {
+            List<UserCardResponseDto> members = membersByCard.getOrDefault(card.getId(), List.of());
+            cardsByColumn.computeIfAbsent(card.getColumns().getId(), id -> new ArrayList<>())
+                    .add(new CardResponseDto(card, members));
+        }
+
+        List<ColumnsResponse> columnsResponses = columns.stream()
+                .map(column -> new ColumnsResponse(column,
+                        cardsByColumn.getOrDefault(column.getId(), List.of())))
+                .toList();
+
+        return new BoardColumnResponseDto(board, columnsResponses);
+    }
+}
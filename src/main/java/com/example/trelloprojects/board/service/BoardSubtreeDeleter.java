@@ -0,0 +1,106 @@
+package com.example.trelloprojects.board.service;
+
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.repository.BoardChangeRepository;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.repository.ArchivedCardRepository;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.comment.repository.CommentRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.user_card.repository.UserCardRepository;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보드/컬럼 하위 트리를 엔티티로 읽지 않고 집합 단위 DELETE 로 지운다.
+ * 카드는 CHUNK_SIZE 개씩 user_card → comment → card 순서로 청크마다 별도 트랜잭션에서 지우고,
+ * 호출하는 쪽이 청크가 가득 차지 않을 때까지 반복한 뒤 상위 행을 지운다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BoardSubtreeDeleter {
+
+    public static final int CHUNK_SIZE = 1000;
+
+    private final BoardRepository boardRepository;
+    private final BoardChangeRepository boardChangeRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRepository cardRepository;
+    private final ArchivedCardRepository archivedCardRepository;
+    private final CommentRepository commentRepository;
+    private final UserCardRepository userCardRepository;
+    private final BoardChangeService boardChangeService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    // 한 청크에서 지운 카드 수와 (user_card, comment 포함) 전체 행 수
+    public record DeletedChunk(int cards, int rows) {
+
+        public boolean full() {
+            return cards == CHUNK_SIZE;
+        }
+    }
+
+    @Transactional
+    public DeletedChunk deleteBoardCards(Long boardId) {
+        return deleteCards(cardRepository.findIdsByBoardId(boardId, PageRequest.of(0, CHUNK_SIZE)));
+    }
+
+    @Transactional
+    public DeletedChunk deleteColumnCards(Long columnId) {
+        return deleteCards(cardRepository.findIdsByColumnId(columnId, PageRequest.of(0, CHUNK_SIZE)));
+    }
+
+    // 반복 중에 새로 생긴 카드가 있어도 FK 에 걸리지 않도록 마지막 청크를 같은 트랜잭션에서 한 번 더 지운다
+    @Transactional
+    public int deleteBoardRows(Long boardId) {
+        int rows = deleteBoardCards(boardId).rows();
+        List<Long> columnIds = columnsRepository.findIdsByBoardId(boardId);
+        rows += columnsRepository.deleteAllByBoardId(boardId);
+        rows += boardChangeRepository.deleteAllByBoardId(boardId);
+        rows += archivedCardRepository.deleteAllByBoardId(boardId);
+        rows += boardRepository.deleteRowById(boardId);
+
+        columnIds.forEach(id -> workspaceHierarchyIndex.evict(HierarchyNode.COLUMN, id));
+        workspaceHierarchyIndex.evict(HierarchyNode.BOARD, boardId);
+        return rows;
+    }
+
+    @Transactional
+    public void deleteColumnRow(Long columnId) {
+        Columns columns = columnsRepository.findById(columnId).orElseThrow(() ->
+                new BusinessException(ErrorCode.COLUMN_NOT_FOUND)
+        );
+        Long boardId = columns.getBoard().getId();
+
+        // 뒤쪽 컬럼은 한 칸씩 당겨지므로 MOVED 로 함께 남긴다
+        List<Long> shiftedIds = columnsRepository.findIdsByPositionRange(boardId,
+                columns.getPosition() + 1, Long.MAX_VALUE);
+
+        deleteColumnCards(columnId);
+        columnsRepository.delete(columns);
+        columnsRepository.decrementBelow(boardId, columns.getPosition());
+        boardRepository.increaseColumnCount(boardId, -1);
+        workspaceHierarchyIndex.evict(HierarchyNode.COLUMN, columnId);
+        boardChangeService.columnChanged(boardId, columnId, BoardChangeType.DELETED);
+        boardChangeService.columnsChanged(boardId, shiftedIds, BoardChangeType.MOVED);
+    }
+
+    private DeletedChunk deleteCards(List<Long> cardIds) {
+        if (cardIds.isEmpty()) {
+            return new DeletedChunk(0, 0);
+        }
+        int rows = userCardRepository.deleteAllByCardIdIn(cardIds);
+        rows += commentRepository.deleteAllByCardIdIn(cardIds);
+        cardRepository.deleteAllByIdInBatch(cardIds);
+        cardIds.forEach(id -> workspaceHierarchyIndex.evict(HierarchyNode.CARD, id));
+        return new DeletedChunk(cardIds.size(), rows + cardIds.size());
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.trelloprojects.card.controller;
+
+import com.example.trelloprojects.card.dto.ArchivedCardPageResponseDto;
+import com.example.trelloprojects.card.service.CardArchiveService;
+import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.BoardMemberOnly;
+import com.example.trelloprojects.member.annotation.CardMemberOnly;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api")
+public class CardArchiveController {
+
+    private final CardArchiveService cardArchiveService;
+
+    @CardMemberOnly
+    @PutMapping("/card/archive")
+    public ResponseEntity<MsgResponseDto> archiveCard(@RequestParam Long cardId) {
+        cardArchiveService.archiveCard(cardId);
+        return ResponseEntity.ok().body(new MsgResponseDto("카드 보관 성공", HttpStatus.OK.value()));
+    }
+
+    // after 는 이전 응답의 nextCursor, 처음 요청이면 생략
+    @BoardMemberOnly
+    @GetMapping("/boards/{boardId}/archived-cards")
+    public ResponseEntity<ArchivedCardPageResponseDto> getArchivedCards(@PathVariable Long boardId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + CardArchiveService.DEFAULT_PAGE_SIZE) int size) {
+        return ResponseEntity.ok().body(cardArchiveService.getArchivedCards(boardId, after, size));
+    }
+
+    // columnId 를 주면 같은 보드의 다른 컬럼으로 되돌린다
+    @BoardMemberOnly
+    @PutMapping("/boards/{boardId}/archived-cards/{cardId}/restore")
+    public ResponseEntity<MsgResponseDto> restoreCard(@PathVariable Long boardId,
+            @PathVariable Long cardId, @RequestParam(required = false) Long columnId) {
+        cardArchiveService.restoreCard(boardId, cardId, columnId);
+        return ResponseEntity.ok().body(new MsgResponseDto("카드 복원 성공", HttpStatus.OK.value()));
+    }
+}
@@ -5,11 +5,14 @@ import com.example.trelloprojects.card.dto.CardReorderRequestDto;
 import com.example.trelloprojects.card.dto.CardRequestDto;
 import com.example.trelloprojects.card.service.CardService;
 import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.CardMemberOnly;
+import com.example.trelloprojects.member.annotation.ColumnMemberOnly;
 import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -19,6 +22,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 @Slf4j
 @RestController
@@ -28,6 +32,7 @@ public class CardController {
 
     private final CardService cardService;
 
+    @ColumnMemberOnly
     @PostMapping("/card")
     public ResponseEntity<MsgResponseDto> createCard(@RequestParam Long columnId,
             @RequestBody CardRequestDto requestDto) {
@@ -35,12 +40,19 @@ public class CardController {
         return ResponseEntity.ok().body(new MsgResponseDto("카드 생성 성공", HttpStatus.OK.value()));
     }
 
+    @CardMemberOnly
     @GetMapping("/card")
-    public ResponseEntity<CardCommentResponseDto> getComments(@RequestParam Long cardId) {
+    public ResponseEntity<CardCommentResponseDto> getComments(@RequestParam Long cardId,
+            WebRequest webRequest) {
+        String eTag = cardService.getCardETag(cardId);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
         CardCommentResponseDto result = cardService.getComments(cardId);
-        return ResponseEntity.status(HttpStatus.OK).body(result);
+        return ResponseEntity.status(HttpStatus.OK).eTag(eTag).body(result);
     }
 
+    @CardMemberOnly
     @PutMapping("/card/title")
     public ResponseEntity<MsgResponseDto> editTitle(@RequestParam Long cardId,
             @RequestParam String title) {
@@ -48,6 +60,7 @@ public class CardController {
         return ResponseEntity.ok().body(new MsgResponseDto("카드 제목 수정 성공", HttpStatus.OK.value()));
     }
 
+    @CardMemberOnly
     @PutMapping("/card/description")
     public ResponseEntity<MsgResponseDto> editDescription(@RequestParam Long cardId,
             @RequestParam String description) {
@@ -55,6 +68,7 @@ public class CardController {
         return ResponseEntity.ok().body(new MsgResponseDto("카드 설명 수정 성공", HttpStatus.OK.value()));
     }
 
+    @CardMemberOnly
     @PutMapping("/card/deadline")
     public ResponseEntity<MsgResponseDto> editDeadLine(@RequestParam Long cardId,
             @RequestParam LocalDateTime deadLine) {
@@ -62,6 +76,16 @@ public class CardController {
         return ResponseEntity.ok().body(new MsgResponseDto("카드 마감일 수정 성공", HttpStatus.OK.value()));
     }
 
+    // 완료 처리한 카드는 card.archive.done-retention 뒤에 보관함으로 옮겨진다
+    @CardMemberOnly
+    @PutMapping("/card/done")
+    public ResponseEntity<MsgResponseDto> markDone(@RequestParam Long cardId,
+            @RequestParam boolean done) {
+        cardService.markDone(cardId, done);
+        return ResponseEntity.ok().body(new MsgResponseDto("카드 완료 상태 수정 성공", HttpStatus.OK.value()));
+    }
+
+    @CardMemberOnly
     @PostMapping("/card/with")
     public ResponseEntity<MsgResponseDto> setMember(@RequestParam String username,
             @RequestParam Long cardId) {
@@ -69,12 +93,16 @@ public class CardController {
         return ResponseEntity.ok().body(new MsgResponseDto("작업자 할당/취소 성공", HttpStatus.OK.value()));
     }
 
+    @CardMemberOnly
     @DeleteMapping("/card/{cardId}")
     public ResponseEntity<MsgResponseDto> deleteCard(@PathVariable Long cardId) {
         cardService.deleteCard(cardId);
         return ResponseEntity.ok().body(new MsgResponseDto("카드 삭제 성공", HttpStatus.OK.value()));
     }
 
+    // 다른 컬럼으로 옮길 때는 옮겨 갈 컬럼의 워크스페이스 멤버인지도 본다
+    @PreAuthorize("@workspaceGuard.canAccessCard(#cardId, authentication.principal) and "
+            + "(#columnsId == null or @workspaceGuard.canAccessColumn(#columnsId, authentication.principal))")
     @PutMapping("/card/{cardId}/reorder")
     public ResponseEntity<MsgResponseDto> reorderCard(@PathVariable Long cardId,
             @RequestParam(required = false) Long columnsId,
@@ -0,0 +1,15 @@
+package com.example.trelloprojects.card.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ArchivedCardPageResponseDto {
+  private final List<ArchivedCardResponseDto> cards;
+  private final Long nextCursor; // 다음 페이지 요청의 after 값, 마지막 페이지면 null
+
+  public ArchivedCardPageResponseDto(List<ArchivedCardResponseDto> cards, Long nextCursor) {
+    this.cards = cards;
+    this.nextCursor = nextCursor;
+  }
+}
@@ -0,0 +1,29 @@
+package com.example.trelloprojects.card.dto;
+
+import com.example.trelloprojects.card.entity.ArchivedCard;
+import com.example.trelloprojects.common.entity.ColorEnum;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class ArchivedCardResponseDto {
+  private final Long id;
+  private final Long columnId;
+  private final String title;
+  private final String description;
+  private final ColorEnum color;
+  private final LocalDateTime deadLine;
+  private final LocalDateTime doneAt;
+  private final LocalDateTime archivedAt;
+
+  public ArchivedCardResponseDto(ArchivedCard card) {
+    this.id = card.getId();
+    this.columnId = card.getColumnId();
+    this.title = card.getTitle();
+    this.description = card.getDescription();
+    this.color = card.getColor();
+    this.deadLine = card.getDeadLine();
+    this.doneAt = card.getDoneAt();
+    this.archivedAt = card.getArchivedAt();
+  }
+}
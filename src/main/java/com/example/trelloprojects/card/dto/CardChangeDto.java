@@ -0,0 +1,42 @@
+package com.example.trelloprojects.card.dto;
+
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.common.entity.ColorEnum;
+import com.example.trelloprojects.user_card.dto.UserCardResponseDto;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CardChangeDto {
+
+    private Long id;
+    private BoardChangeType change;
+    private Long columnId;
+    private String rank;
+    private String title;
+    private String description;
+    private ColorEnum color;
+    private LocalDateTime deadLine;
+    private LocalDateTime doneAt;
+    private List<UserCardResponseDto> members;
+
+    public CardChangeDto(Long id) {
+        this.id = id;
+        this.change = BoardChangeType.DELETED;
+    }
+
+    public CardChangeDto(Card card, BoardChangeType change, List<UserCardResponseDto> members) {
+        this.id = card.getId();
+        this.change = change;
+        this.columnId = card.getColumns().getId();
+        this.rank = card.getRank();
+        this.title = card.getTitle();
+        this.description = card.getDescription();
+        this.color = card.getColor();
+        this.deadLine = card.getDeadLine();
+        this.doneAt = card.getDoneAt();
+        this.members = members;
+    }
+}
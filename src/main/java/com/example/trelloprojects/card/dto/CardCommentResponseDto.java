@@ -1,8 +1,8 @@
 package com.example.trelloprojects.card.dto;
 
 import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.comment.dto.CommentPageResponseDto;
 import com.example.trelloprojects.comment.dto.CommentResponseDto;
-import com.example.trelloprojects.comment.entity.Comment;
 import com.example.trelloprojects.common.entity.ColorEnum;
 import com.example.trelloprojects.user_card.dto.UserCardResponseDto;
 import java.time.LocalDateTime;
@@ -18,16 +18,23 @@ public class CardCommentResponseDto {
   private String description;
   private ColorEnum color;
   private LocalDateTime deadLine;
+  private LocalDateTime doneAt;
   private List<UserCardResponseDto> members;
-  private List<CommentResponseDto> comments;
+  private List<CommentResponseDto> comments; // 첫 페이지만, 나머지는 GET /api/comment 로 이어서 조회
+  private String nextCommentCursor;
+  private long commentCount;
 
-  public CardCommentResponseDto(Card card) {
+  public CardCommentResponseDto(Card card, List<UserCardResponseDto> members,
+      CommentPageResponseDto firstPage, long commentCount) {
     this.id = card.getId();
     this.title = card.getTitle();
     this.description = card.getDescription();
     this.color = card.getColor();
     this.deadLine = card.getDeadLine();
-    this.members = card.getUserCards().stream().map(UserCardResponseDto::new).toList();
-    this.comments = card.getComments().stream().map(CommentResponseDto::new).toList();
+    this.doneAt = card.getDoneAt();
+    this.members = members;
+    this.comments = firstPage.getComments();
+    this.nextCommentCursor = firstPage.getNextCursor();
+    this.commentCount = commentCount;
   }
 }
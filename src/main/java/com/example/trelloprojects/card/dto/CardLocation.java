@@ -0,0 +1,6 @@
+package com.example.trelloprojects.card.dto;
+
+// 카드가 속한 컬럼/보드. 여러 카드를 한 번에 옮길 때 카운터와 변경 로그를 묶어서 갱신하는 데 쓴다
+public record CardLocation(Long cardId, Long columnId, Long boardId) {
+
+}
@@ -0,0 +1,12 @@
+package com.example.trelloprojects.card.dto;
+
+import lombok.Getter;
+
+@Getter
+public class CardMoveRequestDto {
+
+    private Long cardId;
+    private Long columnId;
+    private Long position;
+
+}
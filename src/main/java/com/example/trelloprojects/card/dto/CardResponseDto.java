@@ -15,18 +15,33 @@ import lombok.Setter;
 @Setter
 public class CardResponseDto {
   private Long id;
+  private String rank;
   private String title;
   private String description;
   private ColorEnum color;
   private LocalDateTime deadLine;
+  private LocalDateTime doneAt;
   private List<UserCardResponseDto> members;
 
   public CardResponseDto(Card card) {
     this.id = card.getId();
+    this.rank = card.getRank();
     this.title = card.getTitle();
     this.description = card.getDescription();
     this.color = card.getColor();
     this.deadLine = card.getDeadLine();
+    this.doneAt = card.getDoneAt();
     this.members = card.getUserCards().stream().map(UserCardResponseDto::new).toList();
   }
+
+  public CardResponseDto(Card card, List<UserCardResponseDto> members) {
+    this.id = card.getId();
+    this.rank = card.getRank();
+    this.title = card.getTitle();
+    this.description = card.getDescription();
+    this.color = card.getColor();
+    this.deadLine = card.getDeadLine();
+    this.doneAt = card.getDoneAt();
+    this.members = members;
+  }
 }
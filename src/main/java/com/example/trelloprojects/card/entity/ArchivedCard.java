@@ -0,0 +1,56 @@
+package com.example.trelloprojects.card.entity;
+
+import com.example.trelloprojects.common.entity.ColorEnum;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관함으로 옮긴 카드. card 테이블과 같은 id 를 쓰고, 원래 컬럼/보드는 FK 없이 id 로만 남긴다.
+ * 행은 ArchivedCardRepositoryCustom 의 INSERT ... SELECT 로만 만들어진다.
+ */
+@Entity
+@Getter
+@Table(name = "card_archive", indexes = @Index(name = "idx_card_archive_board_id", columnList = "board_id, id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedCard {
+
+    @Id
+    private Long id;
+
+    @Column
+    private String title;
+
+    @Column
+    private String description;
+
+    @Column
+    private ColorEnum color;
+
+    @Column
+    private LocalDateTime deadLine;
+
+    @Column(name = "rank_key", length = 64)
+    private String rank;
+
+    @Column(nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "done_at")
+    private LocalDateTime doneAt;
+
+    @Column(name = "column_id", nullable = false)
+    private Long columnId;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
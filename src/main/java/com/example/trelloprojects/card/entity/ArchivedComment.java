@@ -0,0 +1,40 @@
+package com.example.trelloprojects.card.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관함으로 옮긴 카드의 댓글
+@Entity
+@Getter
+@Table(name = "comment_archive", indexes = {
+        @Index(name = "idx_comment_archive_card_id", columnList = "card_id"),
+        @Index(name = "idx_comment_archive_user_id", columnList = "user_id")
+})
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedComment {
+
+    @Id
+    private Long id;
+
+    @Column
+    private String content;
+
+    @Column
+    private String username;
+
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(name = "card_id", nullable = false)
+    private Long cardId;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package com.example.trelloprojects.card.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 보관함으로 옮긴 카드의 작업자
+@Entity
+@Getter
+@Table(name = "user_card_archive", indexes = @Index(name = "idx_user_card_archive_card_id", columnList = "card_id"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ArchivedUserCard {
+
+    @Id
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "card_id", nullable = false)
+    private Long cardId;
+}
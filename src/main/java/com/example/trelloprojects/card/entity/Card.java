@@ -12,9 +12,11 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,12 +29,16 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "card")
+@Table(name = "card", indexes = {
+        @Index(name = "idx_card_column_rank", columnList = "column_id, rank_key"),
+        @Index(name = "idx_card_done_at", columnList = "done_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Card {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "card_seq")
+    @SequenceGenerator(name = "card_seq", sequenceName = "card_seq", allocationSize = 100)
     private Long id;
 
     @Column
@@ -47,9 +53,22 @@ public class Card {
     @Column
     LocalDateTime deadLine;
 
+    // rank 도입 이전의 정수 위치. CardRankMigration 이 rank 를 채울 때만 읽는다
     @Column
     private Long position;
 
+    // 컬럼 안에서의 정렬 키 (LexoRank). 이동/삭제 시 이 카드 한 행만 바뀐다
+    @Column(name = "rank_key", length = 64)
+    private String rank;
+
+    // 카드 상세(제목, 설명, 작업자, 댓글) 변경 시 CardRepository.increaseChangeVersion 으로만 증가한다
+    @Column(nullable = false, updatable = false)
+    private Long changeVersion = 0L;
+
+    // 완료 처리된 시각. card.archive.done-retention 이 지나면 CardArchivePolicy 가 보관함으로 옮긴다
+    @Column(name = "done_at")
+    private LocalDateTime doneAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "column_id")
     private Columns columns;
@@ -60,12 +79,20 @@ public class Card {
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "card", cascade = CascadeType.ALL)
     private List<UserCard> userCards = new ArrayList<>();
 
-    public Card(CardRequestDto requestDto, Columns columns, Long position) {
+    public Card(CardRequestDto requestDto, Columns columns, String rank) {
         this.title = requestDto.getTitle();
         this.description = requestDto.getDescription();
         this.color = requestDto.getColor();
         this.deadLine = requestDto.getDeadLine();
         this.columns = columns;
-        this.position = position;
+        this.rank = rank;
+    }
+
+    public void markDone(boolean done) {
+        if (!done) {
+            this.doneAt = null;
+        } else if (this.doneAt == null) {
+            this.doneAt = LocalDateTime.now();
+        }
     }
 }
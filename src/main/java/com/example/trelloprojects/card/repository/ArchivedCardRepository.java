@@ -0,0 +1,25 @@
+package com.example.trelloprojects.card.repository;
+
+import com.example.trelloprojects.card.entity.ArchivedCard;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ArchivedCardRepository extends JpaRepository<ArchivedCard, Long>,
+        ArchivedCardRepositoryCustom {
+
+    @Query("SELECT a FROM ArchivedCard a WHERE a.boardId = :boardId AND a.id > :after ORDER BY a.id")
+    List<ArchivedCard> findPageAfter(@Param("boardId") Long boardId, @Param("after") Long after,
+            Pageable pageable);
+
+    Optional<ArchivedCard> findByIdAndBoardId(Long id, Long boardId);
+
+    // 복원 시 이름을 그대로 옮기므로 보관 중인 댓글의 작성자 이름도 함께 바꾼다
+    @Modifying
+    @Query("UPDATE ArchivedComment m SET m.username = :username WHERE m.userId = :userId")
+    int updateCommentAuthorName(@Param("userId") Long userId, @Param("username") String username);
+}
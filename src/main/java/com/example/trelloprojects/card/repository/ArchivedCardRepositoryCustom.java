@@ -0,0 +1,14 @@
+package com.example.trelloprojects.card.repository;
+
+import java.util.Collection;
+
+public interface ArchivedCardRepositoryCustom {
+
+    // 카드와 댓글/작업자를 보관함 테이블로 복사한다. 원본 행은 호출하는 쪽에서 지운다
+    int copyToArchive(Collection<Long> cardIds);
+
+    // 보관된 카드와 댓글/작업자를 columnId 컬럼으로 되돌리고 보관함 행을 지운다
+    void restore(Long cardId, Long columnId);
+
+    int deleteAllByBoardId(Long boardId);
+}
@@ -0,0 +1,89 @@
+package com.example.trelloprojects.card.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.Collection;
+
+/**
+ * card ↔ card_archive 이동은 HQL INSERT ... SELECT 로 DB 안에서만 복사한다. 엔티티를 읽지 않는다.
+ */
+public class ArchivedCardRepositoryCustomImpl implements ArchivedCardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public int copyToArchive(Collection<Long> cardIds) {
+        int cards = em.createQuery("INSERT INTO ArchivedCard (id, title, description, color, deadLine,"
+                        + " rank, changeVersion, doneAt, columnId, boardId, archivedAt)"
+                        + " SELECT c.id, c.title, c.description, c.color, c.deadLine, c.rank,"
+                        + " c.changeVersion, c.doneAt, c.columns.id, c.columns.board.id, LOCAL DATETIME"
+                        + " FROM Card c WHERE c.id IN :cardIds")
+                .setParameter("cardIds", cardIds)
+                .executeUpdate();
+        em.createQuery("INSERT INTO ArchivedComment (id, content, username, userId, cardId, createdAt)"
+                        + " SELECT m.id, m.content, m.username, m.user.id, m.card.id, m.createdAt"
+                        + " FROM Comment m WHERE m.card.id IN :cardIds")
+                .setParameter("cardIds", cardIds)
+                .executeUpdate();
+        em.createQuery("INSERT INTO ArchivedUserCard (id, userId, cardId)"
+                        + " SELECT uc.id, uc.user.id, uc.card.id"
+                        + " FROM UserCard uc WHERE uc.card.id IN :cardIds")
+                .setParameter("cardIds", cardIds)
+                .executeUpdate();
+        return cards;
+    }
+
+    @Override
+    public void restore(Long cardId, Long columnId) {
+        em.createQuery("INSERT INTO Card (id, title, description, color, deadLine, rank,"
+                        + " changeVersion, doneAt, columns)"
+                        + " SELECT a.id, a.title, a.description, a.color, a.deadLine, a.rank,"
+                        + " a.changeVersion, a.doneAt, col"
+                        + " FROM ArchivedCard a JOIN Columns col ON col.id = :columnId"
+                        + " WHERE a.id = :cardId")
+                .setParameter("cardId", cardId)
+                .setParameter("columnId", columnId)
+                .executeUpdate();
+        em.createQuery("INSERT INTO Comment (id, content, username, user, card, createdAt)"
+                        + " SELECT m.id, m.content, m.username, u, c, m.createdAt"
+                        + " FROM ArchivedComment m JOIN Card c ON c.id = m.cardId"
+                        + " LEFT JOIN User u ON u.id = m.userId"
+                        + " WHERE m.cardId = :cardId")
+                .setParameter("cardId", cardId)
+                .executeUpdate();
+        em.createQuery("INSERT INTO UserCard (id, user, card)"
+                        + " SELECT x.id, u, c"
+                        + " FROM ArchivedUserCard x JOIN Card c ON c.id = x.cardId"
+                        + " JOIN User u ON u.id = x.userId"
+                        + " WHERE x.cardId = :cardId")
+                .setParameter("cardId", cardId)
+                .executeUpdate();
+
+        em.createQuery("DELETE FROM ArchivedUserCard x WHERE x.cardId = :cardId")
+                .setParameter("cardId", cardId)
+                .executeUpdate();
+        em.createQuery("DELETE FROM ArchivedComment m WHERE m.cardId = :cardId")
+                .setParameter("cardId", cardId)
+                .executeUpdate();
+        em.createQuery("DELETE FROM ArchivedCard a WHERE a.id = :cardId")
+                .setParameter("cardId", cardId)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteAllByBoardId(Long boardId) {
+        int rows = em.createQuery("DELETE FROM ArchivedUserCard x WHERE x.cardId IN"
+                        + " (SELECT a.id FROM ArchivedCard a WHERE a.boardId = :boardId)")
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+        rows += em.createQuery("DELETE FROM ArchivedComment m WHERE m.cardId IN"
+                        + " (SELECT a.id FROM ArchivedCard a WHERE a.boardId = :boardId)")
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+        rows += em.createQuery("DELETE FROM ArchivedCard a WHERE a.boardId = :boardId")
+                .setParameter("boardId", boardId)
+                .executeUpdate();
+        return rows;
+    }
+}
@@ -1,45 +1,62 @@
 package com.example.trelloprojects.card.repository;
 
+import com.example.trelloprojects.card.dto.CardLocation;
 import com.example.trelloprojects.card.entity.Card;
-import com.example.trelloprojects.columns.entity.Columns;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
-import org.springframework.transaction.annotation.Transactional;
 
-public interface CardRepository extends JpaRepository<Card, Long> {
+public interface CardRepository extends JpaRepository<Card, Long>, CardRepositoryCustom {
 
-    Long countCardsByColumns(Columns columns);
+    @Query("SELECT c FROM Card c WHERE c.columns.board.id = :boardId ORDER BY c.rank, c.id")
+    List<Card> findAllByBoardId(@Param("boardId") Long boardId);
 
-    //무식하지만 직관적
-    //reorder orderbyposition 칼럼을 다 가져와서 -> for문
+    @Query("SELECT c FROM Card c WHERE c.columns.id IN :columnIds ORDER BY c.rank, c.id")
+    List<Card> findAllByColumnIdIn(@Param("columnIds") Collection<Long> columnIds);
 
-    //지정된 위치로 보낼때, 앞에 숫자는 빼줘야되고, 중간에 숫자는 다시 확인해야되고
-    //업데이트 를 두번달리는게 맞다
-    //new, old 를 나눠서 진행
-    //position 이 old->new (OLD,new 비교)
+    @Query("SELECT c.changeVersion FROM Card c WHERE c.id = :cardId")
+    Optional<Long> findChangeVersionById(@Param("cardId") Long cardId);
 
-    @Transactional
-    @Modifying
-    @Query("UPDATE Card SET position = position + 1 WHERE position >= :newPosition AND position < :oldPosition AND columns.id = :id")
-    void incrementBelowToPosition(@Param("newPosition") Long newPosition,
-            @Param("oldPosition") Long oldPosition, @Param("id") String id);
+    @Query("SELECT c.columns.board.workspace.id FROM Card c WHERE c.id = :cardId")
+    Optional<Long> findWorkspaceIdById(@Param("cardId") Long cardId);
 
-    @Transactional
-    @Modifying
-    @Query("UPDATE Card SET position = position - 1 WHERE position <= :newPosition AND position > :oldPosition AND columns.id = :id")
-    void decrementAboveToPosition(@Param("newPosition") Long newPosition,
-            @Param("oldPosition") Long oldPosition, @Param("id") String id);
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Card c SET c.changeVersion = c.changeVersion + 1 WHERE c.id = :cardId")
+    void increaseChangeVersion(@Param("cardId") Long cardId);
 
-    @Transactional
-    @Modifying
-    @Query("UPDATE Card SET position = position - 1 WHERE position >= :position AND columns.id = :id")
-    void decrementBelow(@Param("position") Long position,
-            @Param("id") String id);
+    // 작성자 이름이 바뀐 댓글이 달린 카드의 ETag 를 무효화한다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Card c SET c.changeVersion = c.changeVersion + 1"
+            + " WHERE c.id IN (SELECT m.card.id FROM Comment m WHERE m.user.id = :userId)")
+    int increaseChangeVersionByCommentAuthor(@Param("userId") Long userId);
+
+    // rank 가 없는 카드(마이그레이션 이전)는 앞에 두고 기존 position 순서를 따른다
+    @Query("SELECT c FROM Card c WHERE c.columns.id = :columnId ORDER BY c.rank NULLS FIRST, c.position, c.id")
+    List<Card> findAllByColumnIdForRebalance(@Param("columnId") Long columnId);
+
+    @Query("SELECT c.id FROM Card c WHERE c.columns.board.id = :boardId ORDER BY c.id")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId, Pageable pageable);
+
+    @Query("SELECT c.id FROM Card c WHERE c.columns.id = :columnId ORDER BY c.id")
+    List<Long> findIdsByColumnId(@Param("columnId") Long columnId, Pageable pageable);
+
+    @Query("SELECT new com.example.trelloprojects.card.dto.CardLocation(c.id, c.columns.id, c.columns.board.id) "
+            + "FROM Card c WHERE c.id IN :cardIds")
+    List<CardLocation> findLocations(@Param("cardIds") Collection<Long> cardIds);
+
+    @Query("SELECT c.id FROM Card c WHERE c.doneAt < :before ORDER BY c.id")
+    List<Long> findIdsDoneBefore(@Param("before") LocalDateTime before, Pageable pageable);
 
-    @Transactional
     @Modifying
-    @Query("UPDATE Card SET position = position + 1 WHERE position <= :position AND Columns = :columns")
-    void incrementBelow(@Param("position") Long position, @Param("columns") Columns columns);
+    @Query("UPDATE Card c SET c.rank = :rank WHERE c.id = :cardId")
+    int updateRank(@Param("cardId") Long cardId, @Param("rank") String rank);
+
+    @Query("SELECT DISTINCT c.columns.id FROM Card c WHERE c.rank IS NULL")
+    List<Long> findColumnIdsWithoutRank();
 }
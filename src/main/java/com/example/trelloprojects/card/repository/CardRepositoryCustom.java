@@ -0,0 +1,11 @@
+package com.example.trelloprojects.card.repository;
+
+import java.util.List;
+
+public interface CardRepositoryCustom {
+
+    /**
+     * 컬럼 안의 카드 rank 를 rank 순서로 offset 부터 limit 개 조회한다. (excludeCardId 카드는 제외)
+     */
+    List<String> findRanksInColumn(Long columnId, Long excludeCardId, int offset, int limit);
+}
@@ -0,0 +1,24 @@
+package com.example.trelloprojects.card.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.List;
+
+public class CardRepositoryCustomImpl implements CardRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    @Override
+    public List<String> findRanksInColumn(Long columnId, Long excludeCardId, int offset,
+            int limit) {
+        return em.createQuery("SELECT c.rank FROM Card c"
+                        + " WHERE c.columns.id = :columnId AND c.id <> :cardId"
+                        + " ORDER BY c.rank, c.id", String.class)
+                .setParameter("columnId", columnId)
+                .setParameter("cardId", excludeCardId)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
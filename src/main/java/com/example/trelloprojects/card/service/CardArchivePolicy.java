@@ -0,0 +1,45 @@
+package com.example.trelloprojects.card.service;
+
+import com.example.trelloprojects.card.repository.CardRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 완료된 지 done-retention 이 지난 카드를 정해진 크기만큼 나눠서 보관함으로 옮긴다. 배치마다 트랜잭션이 따로다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardArchivePolicy {
+
+    private static final int BATCH_SIZE = 500;
+
+    private final CardRepository cardRepository;
+    private final CardArchiveService cardArchiveService;
+
+    @Value("${card.archive.done-retention:30d}")
+    private Duration doneRetention;
+
+    @Scheduled(cron = "${card.archive.cron:0 0 5 * * *}")
+    public void archiveDoneCards() {
+        LocalDateTime before = LocalDateTime.now().minus(doneRetention);
+        long archived = 0;
+
+        List<Long> ids;
+        do {
+            ids = cardRepository.findIdsDoneBefore(before, PageRequest.of(0, BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                archived += cardArchiveService.archiveCards(ids);
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        log.info("done cards archived: {} cards done before {}", archived, before);
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.trelloprojects.card.service;
+
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.card.dto.ArchivedCardPageResponseDto;
+import com.example.trelloprojects.card.dto.ArchivedCardResponseDto;
+import com.example.trelloprojects.card.dto.CardLocation;
+import com.example.trelloprojects.card.entity.ArchivedCard;
+import com.example.trelloprojects.card.repository.ArchivedCardRepository;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.comment.repository.CommentRepository;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.user_card.repository.UserCardRepository;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드를 card_archive 로 옮기고 되돌린다. 보관된 카드는 card 테이블에 없으므로
+ * 보드 스냅샷, rank 계산, 컬럼 카운터에서 자연히 빠진다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CardArchiveService {
+
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final CardRepository cardRepository;
+    private final ArchivedCardRepository archivedCardRepository;
+    private final CommentRepository commentRepository;
+    private final UserCardRepository userCardRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRankService cardRankService;
+    private final BoardChangeService boardChangeService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    @Transactional
+    public void archiveCard(Long cardId) {
+        if (archiveCards(List.of(cardId)) == 0) {
+            throw new BusinessException(ErrorCode.CARD_NOT_FOUND);
+        }
+    }
+
+    /**
+     * 카드와 댓글/작업자를 보관함으로 복사한 뒤 원본을 지운다. 컬럼 카운터는 컬럼 id 순서로 줄여서
+     * 다른 이동과 교착되지 않게 하고, 변경 로그에는 보드마다 DELETED 로 한 번에 남긴다.
+     */
+    @Transactional
+    public int archiveCards(List<Long> cardIds) {
+        List<CardLocation> locations = cardRepository.findLocations(cardIds);
+        if (locations.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = locations.stream().map(CardLocation::cardId).toList();
+
+        archivedCardRepository.copyToArchive(ids);
+        userCardRepository.deleteAllByCardIdIn(ids);
+        commentRepository.deleteAllByCardIdIn(ids);
+        cardRepository.deleteAllByIdInBatch(ids);
+
+        Map<Long, Long> perColumn = locations.stream().collect(Collectors.groupingBy(
+                CardLocation::columnId, TreeMap::new, Collectors.counting()));
+        perColumn.forEach((columnId, count) -> columnsRepository.increaseCardCount(columnId, -count));
+        locations.stream()
+                .collect(Collectors.groupingBy(CardLocation::boardId,
+                        Collectors.mapping(CardLocation::cardId, Collectors.toList())))
+                .forEach((boardId, boardCardIds) -> boardChangeService.cardsChanged(boardId,
+                        boardCardIds, BoardChangeType.DELETED));
+        ids.forEach(id -> workspaceHierarchyIndex.evict(HierarchyNode.CARD, id));
+        return ids.size();
+    }
+
+    @Transactional(readOnly = true)
+    public ArchivedCardPageResponseDto getArchivedCards(Long boardId, Long after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        List<ArchivedCard> rows = archivedCardRepository.findPageAfter(boardId,
+                after == null ? 0L : after, PageRequest.of(0, limit + 1));
+
+        List<ArchivedCardResponseDto> page = rows.stream().limit(limit)
+                .map(ArchivedCardResponseDto::new).toList();
+        return new ArchivedCardPageResponseDto(page,
+                rows.size() > limit ? page.get(limit - 1).getId() : null);
+    }
+
+    // columnId 가 없으면 원래 컬럼으로, 있으면 같은 보드의 그 컬럼 맨 뒤로 되돌린다
+    @Transactional
+    public void restoreCard(Long boardId, Long cardId, Long columnId) {
+        ArchivedCard archived = archivedCardRepository.findByIdAndBoardId(cardId, boardId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.ARCHIVED_CARD_NOT_FOUND));
+        Long targetColumnId = columnId == null ? archived.getColumnId() : columnId;
+        if (!boardId.equals(columnsRepository.findBoardIdById(targetColumnId).orElse(null))) {
+            throw new BusinessException(ErrorCode.COLUMN_NOT_FOUND);
+        }
+
+        String rank = cardRankService.rankForAppend(targetColumnId);
+        archivedCardRepository.restore(cardId, targetColumnId);
+        cardRepository.updateRank(cardId, rank);
+        columnsRepository.increaseCardCount(targetColumnId, 1);
+
+        workspaceHierarchyIndex.put(HierarchyNode.CARD, cardId,
+                workspaceHierarchyIndex.workspaceOf(HierarchyNode.BOARD, boardId));
+        boardChangeService.cardChanged(boardId, cardId, BoardChangeType.INSERTED);
+    }
+}
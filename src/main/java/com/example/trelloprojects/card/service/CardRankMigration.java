@@ -0,0 +1,35 @@
+package com.example.trelloprojects.card.service;
+
+import com.example.trelloprojects.card.repository.CardRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 정수 position 만 있는 기존 카드에 rank 를 채운다. 컬럼별로 position 순서를 그대로 유지하며,
+ * rank 가 빈 카드가 없으면 아무것도 하지 않는다.
+ */
+@Slf4j
+@Order(1)
+@Component
+@RequiredArgsConstructor
+public class CardRankMigration implements ApplicationRunner {
+
+    private final CardRepository cardRepository;
+    private final CardRankService cardRankService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        List<Long> columnIds = cardRepository.findColumnIdsWithoutRank();
+        for (Long columnId : columnIds) {
+            cardRankService.rebalance(columnId);
+        }
+        if (!columnIds.isEmpty()) {
+            log.info("card rank migrated: {} columns", columnIds.size());
+        }
+    }
+}
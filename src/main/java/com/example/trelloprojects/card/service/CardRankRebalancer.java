@@ -0,0 +1,22 @@
+package com.example.trelloprojects.card.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CardRankRebalancer {
+
+    private final CardRankService cardRankService;
+
+    @Scheduled(fixedDelayString = "${card.rank.rebalance-delay:60000}")
+    public void rebalancePending() {
+        for (Long columnId : cardRankService.drainPendingRebalance()) {
+            cardRankService.rebalance(columnId);
+            log.info("card rank rebalanced: column {}", columnId);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.trelloprojects.card.service;
+
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.common.rank.LexoRank;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카드 rank 발급과 재정렬. 키가 card.rank.max-length 보다 길어진 컬럼은 기록해 두었다가
+ * CardRankRebalancer 가 백그라운드에서 같은 간격의 짧은 키로 다시 매긴다.
+ */
+@Service
+@RequiredArgsConstructor
+public class CardRankService {
+
+    private final CardRepository cardRepository;
+    private final ColumnsRepository columnsRepository;
+    private final BoardChangeService boardChangeService;
+    private final Set<Long> pendingRebalance = ConcurrentHashMap.newKeySet();
+
+    @Value("${card.rank.max-length:24}")
+    private int maxLength;
+
+    /**
+     * 컬럼 맨 뒤의 rank. columns.last_card_rank 다음 키를 쓰므로 COUNT/MAX 조회가 없다.
+     * 같은 트랜잭션에서 먼저 ColumnsRepository.increaseCardCount 로 컬럼 행을 잠가 두면
+     * 동시에 추가되는 카드끼리 같은 키를 받지 않는다.
+     */
+    public String rankForAppend(Long columnId) {
+        String last = columnsRepository.findLastCardRank(columnId).orElse(null);
+        String rank = issue(columnId, LexoRank.between(last, null));
+        columnsRepository.raiseLastCardRank(columnId, rank);
+        return rank;
+    }
+
+    /**
+     * cardId 카드를 columnId 컬럼의 index 번째(0 부터)에 둘 때의 rank. index 가 null 이거나
+     * 카드 수보다 크면 맨 뒤에 둔다. 이웃 카드 두 장의 rank 만 읽는다.
+     */
+    public String rankAt(Long columnId, Long cardId, Long index) {
+        if (index == null) {
+            return rankForAppend(columnId);
+        }
+
+        int offset = (int) Math.max(index - 1, 0);
+        List<String> ranks = cardRepository.findRanksInColumn(columnId, cardId, offset,
+                index <= 0 ? 1 : 2);
+        if (index <= 0) {
+            return ranks.isEmpty() ? rankForAppend(columnId)
+                    : issue(columnId, LexoRank.between(null, ranks.get(0)));
+        }
+        if (ranks.size() < 2) {
+            return rankForAppend(columnId);
+        }
+        return issue(columnId, LexoRank.between(ranks.get(0), ranks.get(1)));
+    }
+
+    public String rankBetween(Long columnId, String before, String after) {
+        return issue(columnId, LexoRank.between(before, after));
+    }
+
+    public List<Long> drainPendingRebalance() {
+        List<Long> columnIds = new ArrayList<>(pendingRebalance);
+        pendingRebalance.removeAll(columnIds);
+        return columnIds;
+    }
+
+    /**
+     * 컬럼의 카드 순서를 유지한 채 rank 를 다시 매기고 컬럼의 카드 수/마지막 rank 도 맞춘다.
+     * 카드마다 MOVED 로그가 남으므로 델타 동기화 클라이언트도 새 rank 를 받는다.
+     */
+    @Transactional
+    public void rebalance(Long columnId) {
+        List<Card> cards = cardRepository.findAllByColumnIdForRebalance(columnId);
+        if (cards.isEmpty()) {
+            columnsRepository.resetCardStats(columnId, 0, null);
+            return;
+        }
+
+        List<String> ranks = LexoRank.evenlySpaced(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            cards.get(i).setRank(ranks.get(i));
+        }
+        columnsRepository.resetCardStats(columnId, cards.size(), ranks.get(ranks.size() - 1));
+        boardChangeService.cardsChanged(cards.get(0).getColumns().getBoard().getId(),
+                cards.stream().map(Card::getId).toList(), BoardChangeType.MOVED);
+    }
+
+    private String issue(Long columnId, String rank) {
+        if (rank.length() > maxLength) {
+            pendingRebalance.add(columnId);
+        }
+        return rank;
+    }
+}
@@ -1,5 +1,7 @@
 package com.example.trelloprojects.card.service;
 
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.service.BoardChangeService;
 import com.example.trelloprojects.card.dto.CardCommentResponseDto;
 import com.example.trelloprojects.card.dto.CardReorderRequestDto;
 import com.example.trelloprojects.card.dto.CardRequestDto;
@@ -7,13 +9,21 @@ import com.example.trelloprojects.card.entity.Card;
 import com.example.trelloprojects.card.repository.CardRepository;
 import com.example.trelloprojects.columns.entity.Columns;
 import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.comment.service.CommentService;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.common.rank.LexoRank;
 import com.example.trelloprojects.user.entity.User;
 import com.example.trelloprojects.user.repository.UserRepository;
+import com.example.trelloprojects.user_card.dto.UserCardResponseDto;
 import com.example.trelloprojects.user_card.entity.UserCard;
 import com.example.trelloprojects.user_card.repository.UserCardRepository;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import jakarta.persistence.EntityManager;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -24,20 +34,70 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CardService {
 
+    private static final int IMPORT_FLUSH_SIZE = 1000;
+
     private final CardRepository cardRepository;
     private final ColumnsRepository columRepository;
     private final UserRepository userRepository;
     private final UserCardRepository userCardRepository;
+    private final BoardChangeService boardChangeService;
+    private final CardRankService cardRankService;
+    private final CommentService commentService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+    private final EntityManager entityManager;
 
+    @Transactional
     public void createCard(CardRequestDto requestDto, Long columnId) {
         Columns colum = findColumn(columnId);
-        Long position = cardRepository.countCardsByColumns(colum);
-        Card card = cardRepository.save(new Card(requestDto, colum, position));
+        columRepository.increaseCardCount(columnId, 1);
+        String rank = cardRankService.rankForAppend(columnId);
+        Card card = cardRepository.save(new Card(requestDto, colum, rank));
+        workspaceHierarchyIndex.put(HierarchyNode.CARD, card.getId(),
+                workspaceHierarchyIndex.workspaceOf(HierarchyNode.COLUMN, columnId));
+        boardChangeService.cardChanged(colum.getBoard().getId(), card.getId(),
+                BoardChangeType.INSERTED);
+    }
+
+    /**
+     * 비어 있는 컬럼에 카드를 대량 등록한다. rank 는 같은 간격으로 미리 만들고,
+     * IMPORT_FLUSH_SIZE 마다 flush/clear 해서 INSERT 는 JDBC 배치로 나가고 1차 캐시는 커지지 않는다.
+     */
+    @Transactional
+    public int importCards(Long columnId, List<CardRequestDto> requests) {
+        if (requests.isEmpty()) {
+            return 0;
+        }
+
+        List<String> ranks = LexoRank.evenlySpaced(requests.size());
+        for (int from = 0; from < requests.size(); from += IMPORT_FLUSH_SIZE) {
+            Columns colum = columRepository.getReferenceById(columnId);
+            int to = Math.min(from + IMPORT_FLUSH_SIZE, requests.size());
+
+            List<Card> cards = new ArrayList<>(to - from);
+            for (int i = from; i < to; i++) {
+                cards.add(new Card(requests.get(i), colum, ranks.get(i)));
+            }
+            cardRepository.saveAll(cards);
+            entityManager.flush();
+            entityManager.clear();
+        }
+
+        columRepository.resetCardStats(columnId, requests.size(), ranks.get(ranks.size() - 1));
+        return requests.size();
     }
 
     @Transactional(readOnly = true)
     public CardCommentResponseDto getComments(Long cardId) {
-        return new CardCommentResponseDto(findCard(cardId));
+        Card card = findCard(cardId);
+        List<UserCardResponseDto> members = userCardRepository.findAllByCardIdInWithUser(
+                List.of(cardId)).stream().map(UserCardResponseDto::new).toList();
+        return new CardCommentResponseDto(card, members,
+                commentService.getComments(cardId, null, CommentService.DEFAULT_PAGE_SIZE),
+                commentService.countComments(cardId));
+    }
+
+    public String getCardETag(Long cardId) {
+        return boardChangeService.getCardETag(cardId);
     }
 
 
@@ -45,18 +105,28 @@ public class CardService {
     public void editTitle(Long cardId, String title) {
         Card card = findCard(cardId);
         card.setTitle(title);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
     }
 
     @Transactional
     public void editDescription(Long cardId, String description) {
         Card card = findCard(cardId);
         card.setDescription(description);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
     }
 
     @Transactional
     public void editDeadLine(Long cardId, LocalDateTime deadLine) {
         Card card = findCard(cardId);
         card.setDeadLine(deadLine);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
+    }
+
+    @Transactional
+    public void markDone(Long cardId, boolean done) {
+        Card card = findCard(cardId);
+        card.markDone(done);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
     }
 
     @Transactional
@@ -72,13 +142,16 @@ public class CardService {
             userCard.cancel();
             userCardRepository.delete(userCard);
         }
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
     }
 
+    @Transactional
     public void deleteCard(Long cardId) {
         Card card = findCard(cardId);
-        cardRepository.decrementBelow(card.getPosition(),
-                String.valueOf(card.getColumns().getId()));
+        columRepository.increaseCardCount(card.getColumns().getId(), -1);
         cardRepository.delete(card);
+        workspaceHierarchyIndex.evict(HierarchyNode.CARD, cardId);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.DELETED);
     }
 
     private Columns findColumn(Long columnId) {
@@ -93,44 +166,62 @@ public class CardService {
         );
     }
 
+    private void recordCrossColumnMove(Card card, Columns from, Columns to) {
+        Long fromBoardId = from.getBoard().getId();
+        Long toBoardId = to.getBoard().getId();
+
+        if (fromBoardId.equals(toBoardId)) {
+            boardChangeService.cardChanged(toBoardId, card.getId(), BoardChangeType.MOVED);
+        } else {
+            boardChangeService.cardChanged(fromBoardId, card.getId(), BoardChangeType.DELETED);
+            boardChangeService.cardChanged(toBoardId, card.getId(), BoardChangeType.INSERTED);
+        }
+    }
+
+    // 두 컬럼 행을 항상 id 순서로 잠가서 반대 방향 이동끼리 교착되지 않게 한다
+    private void moveCardCount(Long fromColumnId, Long toColumnId) {
+        if (fromColumnId < toColumnId) {
+            columRepository.increaseCardCount(fromColumnId, -1);
+            columRepository.increaseCardCount(toColumnId, 1);
+        } else {
+            columRepository.increaseCardCount(toColumnId, 1);
+            columRepository.increaseCardCount(fromColumnId, -1);
+        }
+    }
+
+    private Long boardIdOf(Card card) {
+        return card.getColumns().getBoard().getId();
+    }
+
     private User findUser(String username) {
         return userRepository.findByUsername(username).orElseThrow(() ->
                 new BusinessException(ErrorCode.USER_NOT_FOUND)
         );
     }
 
-    //TO DO
+    // 다른 카드의 위치는 바꾸지 않고 이 카드의 rank 만 이웃 카드 사이 값으로 바꾼다
+    @Transactional
     public void reorderCard(Long cardId, Long columnsId, CardReorderRequestDto reorderRequestDto) {
         Card card = findCard(cardId);
 
         Columns columns = card.getColumns();
-        Long oldPosition = card.getPosition();
-        Long newPosition = reorderRequestDto.getPosition();
-
-        if (columns.getId().equals(columnsId)) {
-
-            if (newPosition > oldPosition) {
-                cardRepository.decrementAboveToPosition(newPosition, oldPosition,
-                        String.valueOf(columns.getId()));
-            } else {
-                cardRepository.incrementBelowToPosition(newPosition, oldPosition,
-                        String.valueOf(columns.getId()));
-            }
+        Columns requestcolumns = columnsId == null || columns.getId().equals(columnsId)
+                ? columns : findColumn(columnsId);
+        if (requestcolumns != columns) {
+            moveCardCount(columns.getId(), requestcolumns.getId());
+            workspaceHierarchyIndex.putAfterCommit(HierarchyNode.CARD, cardId,
+                    workspaceHierarchyIndex.workspaceOf(HierarchyNode.COLUMN, requestcolumns.getId()));
+        }
 
-            card.setPosition(reorderRequestDto.getPosition());
-            cardRepository.save(card);
+        card.setRank(cardRankService.rankAt(requestcolumns.getId(), cardId,
+                reorderRequestDto.getPosition()));
+        card.setColumns(requestcolumns);
 
+        if (requestcolumns == columns) {
+            boardChangeService.cardChanged(columns.getBoard().getId(), cardId,
+                    BoardChangeType.MOVED);
         } else {
-
-            Columns requestcolumns = findColumn(columnsId);
-
-            cardRepository.decrementBelow(card.getPosition(), String.valueOf(columns.getId()));
-
-            Long position = cardRepository.countCardsByColumns(requestcolumns);
-            card.setPosition(position);
-            card.setColumns(requestcolumns);
-
-            cardRepository.save(card);
+            recordCrossColumnMove(card, columns, requestcolumns);
         }
     }
 }
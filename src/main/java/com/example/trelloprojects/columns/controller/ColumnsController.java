@@ -3,11 +3,16 @@ package com.example.trelloprojects.columns.controller;
 import com.example.trelloprojects.card.dto.CardResponseDto;
 import com.example.trelloprojects.card.service.CardService;
 import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsResponse;
 import com.example.trelloprojects.columns.dto.ReorderRequest;
 import com.example.trelloprojects.columns.dto.UpdateColumnsRequest;
 import com.example.trelloprojects.columns.entity.Columns;
 import com.example.trelloprojects.columns.service.impl.ColumnsServiceImpl;
 import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.BoardMemberOnly;
+import com.example.trelloprojects.member.annotation.CardMemberOnly;
+import com.example.trelloprojects.member.annotation.ColumnMemberOnly;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -28,6 +33,7 @@ public class ColumnsController {
     private final ColumnsServiceImpl columnsServiceImpl;
     private final CardService cardService;
 
+    @BoardMemberOnly
     @PostMapping("/column/{boardId}")
     public ResponseEntity<MsgResponseDto> addColumns(@PathVariable Long boardId,
             @RequestBody AddColumnsRequest request) {
@@ -35,6 +41,14 @@ public class ColumnsController {
         return ResponseEntity.ok().body(new MsgResponseDto("컬럼 생성 성공", HttpStatus.OK.value()));
     }
 
+    @BoardMemberOnly
+    @PostMapping("/column/{boardId}/import")
+    public ResponseEntity<ImportColumnsResponse> importColumns(@PathVariable Long boardId,
+            @RequestBody ImportColumnsRequest request) {
+        return ResponseEntity.ok().body(columnsServiceImpl.importColumns(boardId, request));
+    }
+
+    @ColumnMemberOnly
     @PutMapping("/column/{columnId}")
     public ResponseEntity<MsgResponseDto> updateColumns(@PathVariable Long columnId,
             @RequestBody UpdateColumnsRequest request) {
@@ -42,17 +56,20 @@ public class ColumnsController {
         return ResponseEntity.ok().body(new MsgResponseDto("컬럼 수정 성공", HttpStatus.OK.value()));
     }
 
+    @ColumnMemberOnly
     @DeleteMapping("/column/{columnId}")
     public ResponseEntity<MsgResponseDto> deleteColumns(@PathVariable Long columnId) {
         columnsServiceImpl.deleteColumns(columnId);
         return ResponseEntity.ok().body(new MsgResponseDto("컬럼 삭제 성공", HttpStatus.OK.value()));
     }
 
+    @CardMemberOnly
     @GetMapping("/column/card/{cardId}")
     public ResponseEntity<CardResponseDto> getCard(@PathVariable Long cardId) {
         return ResponseEntity.ok().body(new CardResponseDto(cardService.findCard(cardId)));
     }
 
+    @ColumnMemberOnly
     @PutMapping("/column/{columnId}/reorder")
     public ResponseEntity<MsgResponseDto> reorder(@PathVariable Long columnId,
             @RequestBody ReorderRequest request) {
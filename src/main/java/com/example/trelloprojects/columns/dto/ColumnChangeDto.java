@@ -0,0 +1,26 @@
+package com.example.trelloprojects.columns.dto;
+
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.columns.entity.Columns;
+import lombok.Getter;
+
+@Getter
+public class ColumnChangeDto {
+
+    private Long id;
+    private BoardChangeType change;
+    private String name;
+    private Long position;
+
+    public ColumnChangeDto(Long id) {
+        this.id = id;
+        this.change = BoardChangeType.DELETED;
+    }
+
+    public ColumnChangeDto(Columns columns, BoardChangeType change) {
+        this.id = columns.getId();
+        this.change = change;
+        this.name = columns.getName();
+        this.position = columns.getPosition();
+    }
+}
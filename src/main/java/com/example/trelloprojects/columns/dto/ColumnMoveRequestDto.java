@@ -0,0 +1,11 @@
+package com.example.trelloprojects.columns.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ColumnMoveRequestDto {
+
+    private Long columnId;
+    private Long position;
+
+}
@@ -8,12 +8,20 @@ import lombok.Getter;
 @Getter
 public class ColumnsResponse {
 
+    private Long id;
     private String name;
     private List<CardResponseDto> cardList;
 
     public ColumnsResponse(Columns columns) {
+        this.id = columns.getId();
         this.name = columns.getName();
         this.cardList = columns.getCardList().stream().map(CardResponseDto::new).toList();
     }
 
+    public ColumnsResponse(Columns columns, List<CardResponseDto> cardList) {
+        this.id = columns.getId();
+        this.name = columns.getName();
+        this.cardList = cardList;
+    }
+
 }
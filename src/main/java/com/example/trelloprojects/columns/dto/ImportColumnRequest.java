@@ -0,0 +1,14 @@
+package com.example.trelloprojects.columns.dto;
+
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class ImportColumnRequest {
+
+    private String name;
+    private List<CardRequestDto> cards = new ArrayList<>();
+
+}
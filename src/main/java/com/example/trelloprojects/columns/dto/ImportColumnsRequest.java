@@ -0,0 +1,13 @@
+package com.example.trelloprojects.columns.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.Getter;
+
+// 보드 뒤에 순서대로 추가할 컬럼과 각 컬럼의 카드 목록
+@Getter
+public class ImportColumnsRequest {
+
+    private List<ImportColumnRequest> columns = new ArrayList<>();
+
+}
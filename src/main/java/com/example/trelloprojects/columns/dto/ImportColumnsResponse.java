@@ -0,0 +1,19 @@
+package com.example.trelloprojects.columns.dto;
+
+import lombok.Getter;
+
+@Getter
+public class ImportColumnsResponse {
+
+    private final int columnCount;
+    private final int cardCount;
+    private final long elapsedMillis;
+    private final long cardsPerSecond;
+
+    public ImportColumnsResponse(int columnCount, int cardCount, long elapsedNanos) {
+        this.columnCount = columnCount;
+        this.cardCount = cardCount;
+        this.elapsedMillis = elapsedNanos / 1_000_000;
+        this.cardsPerSecond = cardCount * 1_000_000_000L / Math.max(elapsedNanos, 1);
+    }
+}
@@ -10,9 +10,12 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
 import java.util.ArrayList;
 import java.util.List;
 import lombok.AccessLevel;
@@ -21,11 +24,13 @@ import lombok.NoArgsConstructor;
 
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_columns_board_position", columnList = "board_id, position"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Columns {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "columns_seq")
+    @SequenceGenerator(name = "columns_seq", sequenceName = "columns_seq", allocationSize = 100)
     private Long id;
 
     @Column
@@ -34,6 +39,13 @@ public class Columns {
     @Column
     private Long position;
 
+    // 컬럼의 카드 수와 지금까지 발급된 가장 뒤의 rank. ColumnsRepository 의 원자적 UPDATE 로만 바뀐다
+    @Column(nullable = false, updatable = false)
+    private Long cardCount = 0L;
+
+    @Column(length = 64, updatable = false)
+    private String lastCardRank;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "board_id")
     private Board board;
@@ -47,6 +59,12 @@ public class Columns {
         this.board = board;
     }
 
+    public Columns(String name, Long position, Board board) {
+        this.name = name;
+        this.position = position;
+        this.board = board;
+    }
+
     public Columns update(UpdateColumnsRequest request) {
         this.name = request.getName();
         return this;
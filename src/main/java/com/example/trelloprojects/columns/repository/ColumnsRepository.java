@@ -1,7 +1,8 @@
 package com.example.trelloprojects.columns.repository;
 
-import com.example.trelloprojects.board.entity.Board;
 import com.example.trelloprojects.columns.entity.Columns;
+import java.util.List;
+import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -9,19 +10,62 @@ import org.springframework.data.repository.query.Param;
 
 public interface ColumnsRepository extends JpaRepository<Columns, Long> {
 
-    Long countColumnsByBoard(Board board);
+    List<Columns> findAllByBoardIdOrderByPositionAsc(Long boardId);
 
+    // 위치 조정은 항상 같은 보드의 컬럼으로 한정한다. (board_id, position) 인덱스를 탄다
     @Modifying
-    @Query("UPDATE Columns SET position = position + 1 WHERE position >= :newPosition AND position < :oldPosition")
-    void incrementBelowToPosition(@Param("newPosition") Long newPosition,
-            @Param("oldPosition") Long oldPosition);
+    @Query("UPDATE Columns SET position = position + 1 WHERE board.id = :boardId AND position >= :newPosition AND position < :oldPosition")
+    int incrementBelowToPosition(@Param("boardId") Long boardId,
+            @Param("newPosition") Long newPosition, @Param("oldPosition") Long oldPosition);
 
     @Modifying
-    @Query("UPDATE Columns SET position = position - 1 WHERE position <= :newPosition AND position > :oldPosition ")
-    void decrementAboveToPosition(@Param("newPosition") Long newPosition,
-            @Param("oldPosition") Long oldPosition);
+    @Query("UPDATE Columns SET position = position - 1 WHERE board.id = :boardId AND position <= :newPosition AND position > :oldPosition")
+    int decrementAboveToPosition(@Param("boardId") Long boardId,
+            @Param("newPosition") Long newPosition, @Param("oldPosition") Long oldPosition);
 
     @Modifying
-    @Query("UPDATE Columns SET position = position - 1 WHERE position >= :position")
-    void decrementBelow(@Param("position") Long position);
+    @Query("UPDATE Columns SET position = position - 1 WHERE board.id = :boardId AND position > :position")
+    int decrementBelow(@Param("boardId") Long boardId, @Param("position") Long position);
+
+    // 위치 조정으로 자리가 바뀌는 컬럼 id. UPDATE 전에 같은 트랜잭션에서 읽어 변경 로그에 남긴다
+    @Query("SELECT c.id FROM Columns c WHERE c.board.id = :boardId AND c.position BETWEEN :from AND :to ORDER BY c.position")
+    List<Long> findIdsByPositionRange(@Param("boardId") Long boardId, @Param("from") Long from,
+            @Param("to") Long to);
+
+    @Query("SELECT c.lastCardRank FROM Columns c WHERE c.id = :columnId")
+    Optional<String> findLastCardRank(@Param("columnId") Long columnId);
+
+    @Query("SELECT c.board.workspace.id FROM Columns c WHERE c.id = :columnId")
+    Optional<Long> findWorkspaceIdById(@Param("columnId") Long columnId);
+
+    // 컬럼 행 잠금을 잡으므로 같은 컬럼의 카드 추가는 한 줄로 세워진다
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Columns c SET c.cardCount = c.cardCount + :delta WHERE c.id = :columnId")
+    int increaseCardCount(@Param("columnId") Long columnId, @Param("delta") long delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Columns c SET c.lastCardRank = :rank WHERE c.id = :columnId"
+            + " AND (c.lastCardRank IS NULL OR c.lastCardRank < :rank)")
+    int raiseLastCardRank(@Param("columnId") Long columnId, @Param("rank") String rank);
+
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Columns c SET c.cardCount = :cardCount, c.lastCardRank = :lastCardRank WHERE c.id = :columnId")
+    void resetCardStats(@Param("columnId") Long columnId, @Param("cardCount") long cardCount,
+            @Param("lastCardRank") String lastCardRank);
+
+    @Modifying
+    @Query("UPDATE Columns c SET c.cardCount = (SELECT COUNT(k) FROM Card k WHERE k.columns.id = c.id),"
+            + " c.lastCardRank = (SELECT MAX(k.rank) FROM Card k WHERE k.columns.id = c.id)"
+            + " WHERE c.lastCardRank IS NULL AND EXISTS (SELECT k FROM Card k WHERE k.columns.id = c.id)")
+    int backfillCardStats();
+
+    @Query("SELECT c.board.id FROM Columns c WHERE c.id = :columnId")
+    Optional<Long> findBoardIdById(@Param("columnId") Long columnId);
+
+    @Query("SELECT c.id FROM Columns c WHERE c.board.id = :boardId")
+    List<Long> findIdsByBoardId(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("DELETE FROM Columns c WHERE c.board.id = :boardId")
+    int deleteAllByBoardId(@Param("boardId") Long boardId);
 }
@@ -0,0 +1,35 @@
+package com.example.trelloprojects.columns.service;
+
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 카운터 컬럼(board.column_count, columns.card_count, columns.last_card_rank)이 생기기 전에 만들어진
+ * 보드/컬럼의 값을 채운다. rank 마이그레이션이 끝난 뒤 실행되며, 채울 행이 없으면 아무것도 바꾸지 않는다.
+ */
+@Slf4j
+@Order(2)
+@Component
+@RequiredArgsConstructor
+public class ColumnsCounterBackfill implements ApplicationRunner {
+
+    private final BoardRepository boardRepository;
+    private final ColumnsRepository columnsRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int boards = boardRepository.backfillColumnCount();
+        int columns = columnsRepository.backfillCardStats();
+        if (boards + columns > 0) {
+            log.info("counters backfilled: {} boards, {} columns", boards, columns);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.example.trelloprojects.columns.service;
 
 import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsResponse;
 import com.example.trelloprojects.columns.dto.ReorderRequest;
 import com.example.trelloprojects.columns.dto.UpdateColumnsRequest;
 import com.example.trelloprojects.columns.entity.Columns;
@@ -12,9 +14,11 @@ public interface ColumnsService {
     void addColumns(Long boardId, AddColumnsRequest request);
 
     @Transactional
-    void updateColumns(Long columnId, UpdateColumnsRequest request);
+    ImportColumnsResponse importColumns(Long boardId, ImportColumnsRequest request);
 
     @Transactional
+    void updateColumns(Long columnId, UpdateColumnsRequest request);
+
     void deleteColumns(Long columnId);
 
     @Transactional
@@ -2,7 +2,14 @@ package com.example.trelloprojects.columns.service.impl;
 
 import com.example.trelloprojects.board.entity.Board;
 import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter;
+import com.example.trelloprojects.card.service.CardService;
 import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsResponse;
 import com.example.trelloprojects.columns.dto.ReorderRequest;
 import com.example.trelloprojects.columns.dto.UpdateColumnsRequest;
 import com.example.trelloprojects.columns.entity.Columns;
@@ -10,6 +17,10 @@ import com.example.trelloprojects.columns.repository.ColumnsRepository;
 import com.example.trelloprojects.columns.service.ColumnsService;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import java.util.ArrayList;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -20,16 +31,58 @@ public class ColumnsServiceImpl implements ColumnsService {
 
     private final ColumnsRepository columnsRepository;
     private final BoardRepository boardRepository;
+    private final BoardChangeService boardChangeService;
+    private final CardService cardService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+    private final BoardSubtreeDeleter boardSubtreeDeleter;
 
 
     @Transactional
     @Override
     public void addColumns(Long boardId, AddColumnsRequest request) {
-        Board findBoard = boardRepository.findById(boardId).orElseThrow(
-                () -> new BusinessException(ErrorCode.BOARD_NOT_FOUND)
-        );
-        Long position = columnsRepository.countColumnsByBoard(findBoard);
-        columnsRepository.save(new Columns(request, position, findBoard));
+        if (boardRepository.increaseColumnCount(boardId, 1) == 0) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        Long position = boardRepository.findColumnCountById(boardId).orElseThrow() - 1;
+        Board findBoard = boardRepository.getReferenceById(boardId);
+        Columns columns = columnsRepository.save(new Columns(request, position, findBoard));
+        workspaceHierarchyIndex.put(HierarchyNode.COLUMN, columns.getId(),
+                workspaceHierarchyIndex.workspaceOf(HierarchyNode.BOARD, boardId));
+        boardChangeService.columnChanged(boardId, columns.getId(), BoardChangeType.INSERTED);
+    }
+
+    // 컬럼/카드 트리를 한 트랜잭션에서 배치 INSERT 로 등록하고 처리량을 함께 돌려준다
+    @Transactional
+    @Override
+    public ImportColumnsResponse importColumns(Long boardId, ImportColumnsRequest request) {
+        long started = System.nanoTime();
+        List<ImportColumnRequest> columnRequests = request.getColumns();
+
+        if (boardRepository.increaseColumnCount(boardId, columnRequests.size()) == 0) {
+            throw new BusinessException(ErrorCode.BOARD_NOT_FOUND);
+        }
+        long position = boardRepository.findColumnCountById(boardId).orElseThrow()
+                - columnRequests.size();
+        Board findBoard = boardRepository.getReferenceById(boardId);
+
+        List<Columns> columns = new ArrayList<>(columnRequests.size());
+        for (ImportColumnRequest columnRequest : columnRequests) {
+            columns.add(new Columns(columnRequest.getName(), position++, findBoard));
+        }
+        columnsRepository.saveAll(columns);
+        Long workspaceId = workspaceHierarchyIndex.workspaceOf(HierarchyNode.BOARD, boardId);
+        columns.forEach(column -> workspaceHierarchyIndex.put(HierarchyNode.COLUMN,
+                column.getId(), workspaceId));
+
+        int cardCount = 0;
+        for (int i = 0; i < columns.size(); i++) {
+            cardCount += cardService.importCards(columns.get(i).getId(),
+                    columnRequests.get(i).getCards());
+        }
+
+        // 변경 로그를 카드마다 남기지 않고 델타 클라이언트가 전체 스냅샷을 다시 받게 한다
+        boardChangeService.boardReloaded(boardId);
+        return new ImportColumnsResponse(columns.size(), cardCount, System.nanoTime() - started);
     }
 
     @Transactional
@@ -37,14 +90,19 @@ public class ColumnsServiceImpl implements ColumnsService {
     public void updateColumns(Long columnId, UpdateColumnsRequest request) {
         Columns columns = findColumn(columnId);
         columns.update(request);
+        boardChangeService.columnChanged(columns.getBoard().getId(), columnId,
+                BoardChangeType.UPDATED);
     }
 
-    @Transactional
+    // 카드를 고아로 남기지 않고 청크 단위로 먼저 지운 뒤 컬럼 행을 지운다
     @Override
     public void deleteColumns(Long columnId) {
-        Columns columns = findColumn(columnId);
-        columnsRepository.decrementBelow(columns.getPosition());
-        columnsRepository.deleteById(columnId);
+        findColumn(columnId);
+
+        while (boardSubtreeDeleter.deleteColumnCards(columnId).full()) {
+            // 가득 찬 청크가 나오는 동안 계속 지운다
+        }
+        boardSubtreeDeleter.deleteColumnRow(columnId);
     }
 
     @Transactional
@@ -52,17 +110,23 @@ public class ColumnsServiceImpl implements ColumnsService {
     public void reorder(Long columnId, ReorderRequest request) {
         Columns columns = findColumn(columnId);
 
+        Long boardId = columns.getBoard().getId();
         Long oldPosition = columns.getPosition();
         Long newPosition = request.getPosition();
 
+        // 끌어 놓은 컬럼과 그 사이에서 한 칸씩 밀리는 컬럼 모두 위치가 바뀐다
+        List<Long> movedIds = columnsRepository.findIdsByPositionRange(boardId,
+                Math.min(oldPosition, newPosition), Math.max(oldPosition, newPosition));
+
         if (newPosition > oldPosition) {
-            columnsRepository.decrementAboveToPosition(newPosition, oldPosition);
+            columnsRepository.decrementAboveToPosition(boardId, newPosition, oldPosition);
         } else {
-            columnsRepository.incrementBelowToPosition(newPosition, oldPosition);
+            columnsRepository.incrementBelowToPosition(boardId, newPosition, oldPosition);
         }
 
         columns.setPosition(request.getPosition());
         columnsRepository.save(columns);
+        boardChangeService.columnsChanged(boardId, movedIds, BoardChangeType.MOVED);
     }
 
     @Override
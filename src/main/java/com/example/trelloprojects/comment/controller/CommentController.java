@@ -1,8 +1,11 @@
 package com.example.trelloprojects.comment.controller;
 
+import com.example.trelloprojects.comment.dto.CommentPageResponseDto;
 import com.example.trelloprojects.comment.dto.CommentRequestDto;
 import com.example.trelloprojects.comment.service.CommentService;
 import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.CardMemberOnly;
+import com.example.trelloprojects.member.annotation.CommentMemberOnly;
 import com.example.trelloprojects.user.entity.UserDetailsImpl;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,6 +13,7 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
@@ -24,18 +28,30 @@ import org.springframework.web.bind.annotation.RestController;
 public class CommentController {
   private final CommentService commentService;
 
+  // after 는 이전 응답의 nextCursor, 처음 요청이면 생략
+  @CardMemberOnly
+  @GetMapping
+  public ResponseEntity<CommentPageResponseDto> getComments(@RequestParam Long cardId,
+      @RequestParam(required = false) String after,
+      @RequestParam(defaultValue = "" + CommentService.DEFAULT_PAGE_SIZE) int size) {
+    return ResponseEntity.ok().body(commentService.getComments(cardId, after, size));
+  }
+
+  @CardMemberOnly
   @PostMapping
   public ResponseEntity<MsgResponseDto> createComment(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestBody CommentRequestDto requestDto, @RequestParam Long cardId) {
     commentService.createComment(userDetails.getUser(), requestDto, cardId);
     return ResponseEntity.ok().body(new MsgResponseDto("댓글 추가 성공", HttpStatus.CREATED.value()));
   }
 
+  @CommentMemberOnly
   @PutMapping
   public ResponseEntity<MsgResponseDto> editComment(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestBody CommentRequestDto requestDto, @RequestParam Long commentId) {
     commentService.editComment(userDetails.getUser(), requestDto, commentId);
     return ResponseEntity.ok().body(new MsgResponseDto("댓글 수정 성공", HttpStatus.OK.value()));
   }
 
+  @CommentMemberOnly
   @DeleteMapping
   public ResponseEntity<MsgResponseDto> deleteComment(@AuthenticationPrincipal UserDetailsImpl userDetails, @RequestParam Long commentId) {
     commentService.deleteComment(userDetails.getUser(), commentId);
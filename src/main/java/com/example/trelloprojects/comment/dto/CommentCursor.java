@@ -0,0 +1,35 @@
+package com.example.trelloprojects.comment.dto;
+
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 댓글 목록 커서. 마지막으로 받은 댓글의 (createdAt, id) 를 "2023-08-20T10:15:30.123456_42" 형태로 주고받는다.
+ */
+public record CommentCursor(LocalDateTime createdAt, Long id) {
+
+  private static final char SEPARATOR = '_';
+
+  public static CommentCursor of(CommentResponseDto comment) {
+    return new CommentCursor(comment.getCreatedAt(), comment.getId());
+  }
+
+  public static CommentCursor parse(String value) {
+    int separator = value.lastIndexOf(SEPARATOR);
+    if (separator < 0) {
+      throw new BusinessException(ErrorCode.INVALID_COMMENT_CURSOR);
+    }
+    try {
+      return new CommentCursor(LocalDateTime.parse(value.substring(0, separator)),
+          Long.valueOf(value.substring(separator + 1)));
+    } catch (DateTimeParseException | NumberFormatException e) {
+      throw new BusinessException(ErrorCode.INVALID_COMMENT_CURSOR);
+    }
+  }
+
+  public String encode() {
+    return createdAt.toString() + SEPARATOR + id;
+  }
+}
@@ -0,0 +1,15 @@
+package com.example.trelloprojects.comment.dto;
+
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class CommentPageResponseDto {
+  private final List<CommentResponseDto> comments;
+  private final String nextCursor; // 다음 페이지 요청의 after 값, 마지막 페이지면 null
+
+  public CommentPageResponseDto(List<CommentResponseDto> comments, String nextCursor) {
+    this.comments = comments;
+    this.nextCursor = nextCursor;
+  }
+}
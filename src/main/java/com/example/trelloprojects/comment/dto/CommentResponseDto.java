@@ -1,6 +1,7 @@
 package com.example.trelloprojects.comment.dto;
 
 import com.example.trelloprojects.comment.entity.Comment;
+import java.time.LocalDateTime;
 import lombok.Getter;
 import lombok.Setter;
 
@@ -10,10 +11,19 @@ public class CommentResponseDto {
   private Long id;
   private String username;
   private String content;
+  private LocalDateTime createdAt;
 
   public CommentResponseDto(Comment comment) {
     this.id = comment.getId();
-    this.username = comment.getUser().getUsername();
+    this.username = comment.getUsername();
     this.content = comment.getContent();
+    this.createdAt = comment.getCreatedAt();
+  }
+
+  public CommentResponseDto(Long id, String username, String content, LocalDateTime createdAt) {
+    this.id = id;
+    this.username = username;
+    this.content = content;
+    this.createdAt = createdAt;
   }
 }
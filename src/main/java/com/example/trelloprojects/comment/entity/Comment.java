@@ -9,9 +9,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -20,17 +24,22 @@ import lombok.Setter;
 @Entity
 @Getter
 @Setter
-@Table(name = "comment")
+@Table(name = "comment", indexes = @Index(name = "idx_comment_card_created_at", columnList = "card_id, created_at, id"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Comment {
 
+    // 탈퇴한 사용자의 댓글에 작성자 이름 대신 보여줄 값
+    public static final String WITHDRAWN_AUTHOR = "탈퇴한 사용자";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "comment_seq")
+    @SequenceGenerator(name = "comment_seq", sequenceName = "comment_seq", allocationSize = 100)
     private Long id;
 
     @Column
     String content;
 
+    // 목록 조회가 user 테이블을 읽지 않도록 작성자 이름을 복사해 둔다 (UserService 에서 함께 갱신)
     @Column
     String username;
 
@@ -42,9 +51,17 @@ public class Comment {
     @JoinColumn(name = "card_id")
     private Card card;
 
+    // 목록 정렬 기준. id 는 노드마다 미리 받아 둔 시퀀스 구간에서 나오므로 작성 순서와 다를 수 있다
+    // 이전 댓글은 CommentCreatedAtBackfill 이 채운다
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
     public Comment(CommentRequestDto requestDto, User user, Card card) {
         this.content = requestDto.getContent();
         this.user = user;
+        this.username = user.getUsername();
         this.card = card;
+        // DATETIME(6) 에 저장되는 값과 커서 값이 같도록 마이크로초까지만 둔다
+        this.createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
     }
 }
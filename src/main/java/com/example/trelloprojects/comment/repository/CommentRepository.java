@@ -1,8 +1,61 @@
 package com.example.trelloprojects.comment.repository;
 
+import com.example.trelloprojects.comment.dto.CommentResponseDto;
 import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.user.entity.UserRoleEnum;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    @Query("SELECT c.card.id FROM Comment c WHERE c.id = :commentId")
+    Optional<Long> findCardIdById(@Param("commentId") Long commentId);
+
+    // (created_at, id) 순서의 첫 페이지 (offset 없이 인덱스 범위 스캔, user 조인 없음)
+    @Query("SELECT new com.example.trelloprojects.comment.dto.CommentResponseDto(c.id, c.username, c.content, c.createdAt) "
+            + "FROM Comment c WHERE c.card.id = :cardId ORDER BY c.createdAt, c.id")
+    List<CommentResponseDto> findFirstPage(@Param("cardId") Long cardId, Pageable pageable);
+
+    // 커서 (afterCreatedAt, afterId) 바로 다음 댓글부터 가져온다
+    @Query("SELECT new com.example.trelloprojects.comment.dto.CommentResponseDto(c.id, c.username, c.content, c.createdAt) "
+            + "FROM Comment c WHERE c.card.id = :cardId AND (c.createdAt > :afterCreatedAt"
+            + " OR (c.createdAt = :afterCreatedAt AND c.id > :afterId)) ORDER BY c.createdAt, c.id")
+    List<CommentResponseDto> findPageAfter(@Param("cardId") Long cardId,
+            @Param("afterCreatedAt") LocalDateTime afterCreatedAt, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    long countByCardId(Long cardId);
+
+    @Modifying
+    @Query("DELETE FROM Comment c WHERE c.card.id IN :cardIds")
+    int deleteAllByCardIdIn(@Param("cardIds") Collection<Long> cardIds);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.username = :username WHERE c.user.id = :userId")
+    int updateAuthorName(@Param("userId") Long userId, @Param("username") String username);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.username = :username WHERE c.username IS NULL"
+            + " AND c.user.id IN (SELECT u.id FROM User u WHERE u.role = :role)")
+    int backfillAuthorName(@Param("role") UserRoleEnum role, @Param("username") String username);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.username = (SELECT u.username FROM User u WHERE u.id = c.user.id)"
+            + " WHERE c.username IS NULL")
+    int backfillAuthorName();
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.createdAt = :createdAt WHERE c.createdAt IS NULL")
+    int backfillCreatedAt(@Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE ArchivedComment m SET m.createdAt = :createdAt WHERE m.createdAt IS NULL")
+    int backfillArchivedCreatedAt(@Param("createdAt") LocalDateTime createdAt);
 }
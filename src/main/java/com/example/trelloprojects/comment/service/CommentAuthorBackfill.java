@@ -0,0 +1,36 @@
+package com.example.trelloprojects.comment.service;
+
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.comment.repository.CommentRepository;
+import com.example.trelloprojects.user.entity.UserRoleEnum;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * comment.username 을 채우기 전에 작성된 댓글에 작성자 이름을 복사한다.
+ * 탈퇴한 사용자의 댓글을 먼저 채우고, 채울 행이 없으면 아무것도 바꾸지 않는다.
+ */
+@Slf4j
+@Order(4)
+@Component
+@RequiredArgsConstructor
+public class CommentAuthorBackfill implements ApplicationRunner {
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int withdrawn = commentRepository.backfillAuthorName(UserRoleEnum.WITHDRAW,
+                Comment.WITHDRAWN_AUTHOR);
+        int active = commentRepository.backfillAuthorName();
+        if (withdrawn + active > 0) {
+            log.info("comment authors backfilled: {} rows", withdrawn + active);
+        }
+    }
+}
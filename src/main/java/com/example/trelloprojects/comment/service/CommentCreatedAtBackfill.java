@@ -0,0 +1,36 @@
+package com.example.trelloprojects.comment.service;
+
+import com.example.trelloprojects.comment.repository.CommentRepository;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * created_at 이 생기기 전에 작성된 댓글(보관함 포함)에 같은 과거 시각을 넣는다.
+ * 이전 댓글끼리는 기존처럼 id 순서로, 이후 작성된 댓글보다는 앞에 놓인다.
+ */
+@Slf4j
+@Order(5)
+@Component
+@RequiredArgsConstructor
+public class CommentCreatedAtBackfill implements ApplicationRunner {
+
+    static final LocalDateTime LEGACY_CREATED_AT = LocalDateTime.of(2000, 1, 1, 0, 0);
+
+    private final CommentRepository commentRepository;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = commentRepository.backfillCreatedAt(LEGACY_CREATED_AT)
+                + commentRepository.backfillArchivedCreatedAt(LEGACY_CREATED_AT);
+        if (updated > 0) {
+            log.info("comment created_at backfilled: {} rows", updated);
+        }
+    }
+}
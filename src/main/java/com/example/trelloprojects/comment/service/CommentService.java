@@ -1,15 +1,24 @@
 package com.example.trelloprojects.comment.service;
 
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.board.service.BoardChangeService;
 import com.example.trelloprojects.card.entity.Card;
 import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.comment.dto.CommentCursor;
+import com.example.trelloprojects.comment.dto.CommentPageResponseDto;
 import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.dto.CommentResponseDto;
 import com.example.trelloprojects.comment.entity.Comment;
 import com.example.trelloprojects.comment.repository.CommentRepository;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
 import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.access.HierarchyNode;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,12 +27,47 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class CommentService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CardRepository cardRepository;
     private final CommentRepository commentRepository;
+    private final BoardChangeService boardChangeService;
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
 
+    @Transactional
     public void createComment(User user, CommentRequestDto requestDto, Long cardId) {
         Card card = findCard(cardId);
-        commentRepository.save(new Comment(requestDto, user, card));
+        Comment comment = commentRepository.save(new Comment(requestDto, user, card));
+        workspaceHierarchyIndex.putComment(comment.getId(), cardId);
+        boardChangeService.cardChanged(boardIdOf(card), cardId, BoardChangeType.UPDATED);
+    }
+
+    /**
+     * after(마지막으로 받은 댓글 id) 다음부터 size 개를 돌려준다. size 는 MAX_PAGE_SIZE 를 넘지 않는다.
+     * 한 개를 더 읽어서 다음 페이지가 있는지 판단한다.
+     */
+    @Transactional(readOnly = true)
+    public CommentPageResponseDto getComments(Long cardId, String after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageRequest pageable = PageRequest.of(0, limit + 1);
+        List<CommentResponseDto> rows;
+        if (after == null) {
+            rows = commentRepository.findFirstPage(cardId, pageable);
+        } else {
+            CommentCursor cursor = CommentCursor.parse(after);
+            rows = commentRepository.findPageAfter(cardId, cursor.createdAt(), cursor.id(), pageable);
+        }
+
+        if (rows.size() <= limit) {
+            return new CommentPageResponseDto(rows, null);
+        }
+        List<CommentResponseDto> page = rows.subList(0, limit);
+        return new CommentPageResponseDto(page, CommentCursor.of(page.get(limit - 1)).encode());
+    }
+
+    public long countComments(Long cardId) {
+        return commentRepository.countByCardId(cardId);
     }
 
     @Transactional
@@ -31,15 +75,19 @@ public class CommentService {
         Comment comment = findComment(commentId);
         if (comment.getUser().getId().equals(user.getId())) {
             comment.setContent(requestDto.getContent());
+            cardUpdated(comment.getCard());
         } else {
             throw new BusinessException(ErrorCode.INVALID_USER);
         }
     }
 
+    @Transactional
     public void deleteComment(User user, Long commentId) {
         Comment comment = findComment(commentId);
         if (comment.getUser().getId().equals(user.getId())) {
             commentRepository.delete(comment);
+            workspaceHierarchyIndex.evict(HierarchyNode.COMMENT, commentId);
+            cardUpdated(comment.getCard());
         } else {
             throw new BusinessException(ErrorCode.INVALID_USER);
         }
@@ -51,6 +99,14 @@ public class CommentService {
         );
     }
 
+    private void cardUpdated(Card card) {
+        boardChangeService.cardChanged(boardIdOf(card), card.getId(), BoardChangeType.UPDATED);
+    }
+
+    private Long boardIdOf(Card card) {
+        return card.getColumns().getBoard().getId();
+    }
+
     private Comment findComment(Long commentId) {
         return commentRepository.findById(commentId).orElseThrow(() ->
                 new BusinessException(ErrorCode.COMMENT_NOT_FOUND)
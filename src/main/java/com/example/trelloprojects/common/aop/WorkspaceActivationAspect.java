@@ -1,10 +1,6 @@
 package com.example.trelloprojects.common.aop;
 
-import com.example.trelloprojects.common.error.BusinessException;
-import com.example.trelloprojects.common.error.ErrorCode;
-import com.example.trelloprojects.workspace.entity.Workspace;
-import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
-import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import com.example.trelloprojects.workspace.access.WorkspaceAccessResolver;
 import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Before;
@@ -15,7 +11,7 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class WorkspaceActivationAspect {
 
-    private final WorkspaceRepository workspaceRepository;
+    private final WorkspaceAccessResolver workspaceAccessResolver;
 
     @Before("(execution(public * com.example.trelloprojects.member.service.*.*(..)) || " +
             "execution(public * com.example.trelloprojects.workspace.service.*.*(..))) && " +
@@ -23,11 +19,7 @@ public class WorkspaceActivationAspect {
             "!execution(public * com.example.trelloprojects.member.service.MemberService.isWorkspaceAdmin(Long, ..)) && " +
             "args(workspaceId, ..)")
     public void checkWorkspaceActivation(Long workspaceId) {
-        Workspace workspace = workspaceRepository.findById(workspaceId)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
-
-        if (workspace.getStatus() == WorkspaceStatus.DELETED) {
-            throw new BusinessException(ErrorCode.DELETED_WORKSPACE);
-        }
+        // 읽은 결과는 요청 동안 재사용되므로 뒤따르는 @AdminOnly, findWorkspace 는 쿼리를 다시 하지 않는다
+        workspaceAccessResolver.resolve(workspaceId).requireActive();
     }
 }
@@ -0,0 +1,50 @@
+package com.example.trelloprojects.common.config;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * card/columns/comment/invitation/mail_outbox 는 배치 INSERT 를 위해 IDENTITY 대신 시퀀스(allocationSize 100)로 id 를 받는다.
+ * MySQL 에서는 *_seq 테이블로 흉내 내므로, IDENTITY 시절 데이터가 있으면 시퀀스를 기존 최대 id 뒤로 옮긴다.
+ * 웹 서버가 뜨기 전(싱글톤 초기화 직후)에 실행되어 id 가 발급되기 전에 끝난다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdSequenceSynchronizer implements SmartInitializingSingleton {
+
+    private static final long ALLOCATION_SIZE = 100;
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            "card_seq", "card",
+            "columns_seq", "columns",
+            "comment_seq", "comment",
+            "invitation_seq", "invitation",
+            "mail_outbox_seq", "mail_outbox"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        SEQUENCE_TABLES.forEach((sequence, table) -> {
+            Long maxId = jdbcTemplate.queryForObject(
+                    "SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+            if (maxId == null || maxId == 0) {
+                return;
+            }
+
+            // pooled 최적화기는 읽은 값에서 allocationSize - 1 을 뺀 값부터 쓰므로 그만큼 더 띄운다
+            long nextValue = maxId + ALLOCATION_SIZE + 1;
+            int updated = jdbcTemplate.update(
+                    "UPDATE " + sequence + " SET next_val = ? WHERE next_val < ?",
+                    nextValue, nextValue);
+            if (updated > 0) {
+                log.info("{} moved past existing ids: next_val = {}", sequence, nextValue);
+            }
+        });
+    }
+}
@@ -1,11 +1,12 @@
 package com.example.trelloprojects.common.config;
 
+import com.example.trelloprojects.mail.service.PooledMailSender;
+import jakarta.mail.Session;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.JavaMailSenderImpl;
 
+import java.time.Duration;
 import java.util.Properties;
 
 @Configuration
@@ -23,21 +24,30 @@ public class MailSenderConfig {
     @Value("${spring.mail.password}")
     private String password;
 
-    @Bean
-    public JavaMailSender getJavaMailSender() {
-        JavaMailSenderImpl javaMailSender = new JavaMailSenderImpl();
+    @Value("${mail.smtp.pool-size:2}")
+    private int poolSize;
 
-        javaMailSender.setHost(host);
-        javaMailSender.setPort(port);
-        javaMailSender.setUsername(username);
-        javaMailSender.setPassword(password);
+    @Value("${mail.smtp.max-idle:30s}")
+    private Duration maxIdle;
 
-        Properties properties = javaMailSender.getJavaMailProperties();
+    @Value("${mail.smtp.timeout:10s}")
+    private Duration timeout;
+
+    @Value("${mail.smtp.debug:false}")
+    private boolean debug;
+
+    @Bean(destroyMethod = "close")
+    public PooledMailSender pooledMailSender() {
+        Properties properties = new Properties();
         properties.put("mail.smtp.starttls.enable", "true");
         properties.put("mail.transport.protocol", "smtp");
         properties.put("mail.smtp.auth", "true");
-        properties.put("mail.debug", "true");
+        properties.put("mail.smtp.connectiontimeout", String.valueOf(timeout.toMillis()));
+        properties.put("mail.smtp.timeout", String.valueOf(timeout.toMillis()));
+        properties.put("mail.smtp.writetimeout", String.valueOf(timeout.toMillis()));
+        properties.put("mail.debug", String.valueOf(debug));
 
-        return javaMailSender;
+        return new PooledMailSender(Session.getInstance(properties), host, port, username,
+                password, poolSize, maxIdle);
     }
 }
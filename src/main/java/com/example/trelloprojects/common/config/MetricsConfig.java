@@ -0,0 +1,19 @@
+package com.example.trelloprojects.common.config;
+
+import com.example.trelloprojects.common.metrics.StatementCounter;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // 요청별 SQL 문 수를 세도록 StatementCounter 빈을 Hibernate 에 그대로 넘긴다
+    @Bean
+    public HibernatePropertiesCustomizer statementCounterCustomizer(
+            StatementCounter statementCounter) {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR,
+                statementCounter);
+    }
+}
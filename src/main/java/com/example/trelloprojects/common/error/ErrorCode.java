@@ -12,6 +12,7 @@ public enum ErrorCode {
     BAD_ID_PASSWORD(HttpStatus.BAD_REQUEST, "U003", "아이디나 비밀번호가 맞지 않습니다."),
     PASSWORD_DO_NOT_MATCH(HttpStatus.BAD_REQUEST, "U004", "비밀번호가 일치하지 않습니다."),
     WITHDRAW_USER(HttpStatus.BAD_REQUEST, "U005", "휴먼계정 입니다."),
+    INVALID_TOKEN(HttpStatus.UNAUTHORIZED, "U006", "유효하지 않은 토큰입니다."),
 
     // board
     BOARD_NOT_FOUND(HttpStatus.BAD_REQUEST, "B001", "존재하지 않는 보드입니다."),
@@ -21,6 +22,7 @@ public enum ErrorCode {
 
     // card
     CARD_NOT_FOUND(HttpStatus.BAD_REQUEST, "CA001", "존재하지 않는 카드입니다."),
+    ARCHIVED_CARD_NOT_FOUND(HttpStatus.BAD_REQUEST, "CA002", "보관함에 없는 카드입니다."),
 
     // userCard
     USER_CARD_NOT_FOUND(HttpStatus.BAD_REQUEST, "UCA001", "존재하지 않는 작업자입니다."),
@@ -28,15 +30,18 @@ public enum ErrorCode {
     // comment
     COMMENT_NOT_FOUND(HttpStatus.BAD_REQUEST, "CO001", "존재하지 않는 카드입니다."),
     INVALID_USER(HttpStatus.BAD_REQUEST, "CO002", "작성자만 삭제/수정할 수 있습니다."),
+    INVALID_COMMENT_CURSOR(HttpStatus.BAD_REQUEST, "CO003", "잘못된 댓글 페이지 커서입니다."),
 
     // workspace
     WORKSPACE_NOT_FOUND(HttpStatus.BAD_REQUEST, "W001", "존재하지 않는 워크스페이스입니다."),
     DELETED_WORKSPACE(HttpStatus.BAD_REQUEST, "W002", "삭제된 워크스페이스에 접근할 수 없습니다."),
     ALREADY_ACTIVATED_WORKSPACE(HttpStatus.BAD_REQUEST, "W003", "이미 활성화된 워크스페이스입니다."),
+    WORKSPACE_BEING_PURGED(HttpStatus.CONFLICT, "W004", "영구 삭제가 진행 중인 워크스페이스입니다."),
 
     // member
     USER_DOES_NOT_BELONG_TO_WORKSPACE(HttpStatus.BAD_REQUEST, "M001", "워크스페이스의 멤버가 아닌 사용자입니다."),
     INVALID_INVITE_CODE(HttpStatus.BAD_REQUEST, "M002", "초대 코드가 유효하지 않습니다."),
+    NOT_WORKSPACE_MEMBER(HttpStatus.FORBIDDEN, "M003", "워크스페이스의 멤버만 접근할 수 있습니다."),
     ;
 
     private final HttpStatus httpStatus;
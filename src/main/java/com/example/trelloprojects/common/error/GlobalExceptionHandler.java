@@ -1,5 +1,8 @@
 package com.example.trelloprojects.common.error;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -12,8 +15,11 @@ import org.springframework.web.method.annotation.MethodArgumentTypeMismatchExcep
 
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MeterRegistry meterRegistry;
+
     // javax.validation.Valid binding error
     @ExceptionHandler(BindException.class)
     protected ResponseEntity<ErrorResponseDto> handleBindException(BindException e) {
@@ -50,6 +56,11 @@ public class GlobalExceptionHandler {
     @ExceptionHandler(value = BusinessException.class)
     protected ResponseEntity<ErrorResponseDto> handleBusinessException(BusinessException e) {
         log.error("BusinessException", e);
+        Counter.builder("business.errors")
+                .tag("code", e.getErrorCode().getCode())
+                .tag("error", e.getErrorCode().name())
+                .register(meterRegistry)
+                .increment();
         ErrorResponseDto errorResponse = ErrorResponseDto.of(e.getErrorCode().getCode(), e.getMessage());
         return ResponseEntity.status(e.getErrorCode().getHttpStatus()).body(errorResponse);
     }
@@ -0,0 +1,33 @@
+package com.example.trelloprojects.common.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hibernate 가 준비하는 SQL 문 수를 스레드별로 센다. start() 와 stop() 사이에서만 세고,
+ * SQL 은 바꾸지 않는다. MetricsConfig 에서 hibernate.session_factory.statement_inspector 로 등록된다.
+ */
+@Component
+public class StatementCounter implements StatementInspector {
+
+    private final ThreadLocal<int[]> current = new ThreadLocal<>();
+
+    public void start() {
+        current.set(new int[1]);
+    }
+
+    public int stop() {
+        int[] count = current.get();
+        current.remove();
+        return count == null ? 0 : count[0];
+    }
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = current.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+}
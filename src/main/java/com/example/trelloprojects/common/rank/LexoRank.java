@@ -0,0 +1,107 @@
+package com.example.trelloprojects.common.rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 문자열 정렬 키(rank) 생성기. 두 키 사이에 항상 새 키를 만들 수 있어서
+ * 순서를 바꿀 때 옮겨지는 행 하나만 수정하면 된다.
+ * 키는 0-9a-z 로만 이루어지고 '0' 으로 끝나지 않는다. (그래야 어떤 두 키 사이에도 키가 존재한다)
+ */
+public final class LexoRank {
+
+    private static final String DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private static final int BASE = DIGITS.length();
+
+    private LexoRank() {
+    }
+
+    /**
+     * before 와 after 사이의 키. before 가 null 이면 맨 앞, after 가 null 이면 맨 뒤를 뜻한다.
+     * 동시 수정으로 before >= after 가 된 경우에는 before 바로 뒤의 키를 돌려준다.
+     */
+    public static String between(String before, String after) {
+        if (after != null && before != null && before.compareTo(after) >= 0) {
+            after = null;
+        }
+        if (after == null) {
+            return before == null ? String.valueOf(DIGITS.charAt(BASE / 2)) : increment(before);
+        }
+        return midpoint(before == null ? "" : before, after);
+    }
+
+    /**
+     * count 개의 키를 같은 길이, 같은 간격으로 만든다. 재정렬(rebalance)과 마이그레이션에 쓴다.
+     * 맨 뒤 추가가 가장 흔하므로 키 공간의 앞쪽 절반만 쓰고 나머지는 추가용으로 남긴다.
+     */
+    public static List<String> evenlySpaced(int count) {
+        int width = 1;
+        long space = BASE;
+        while (space < (long) (count + 1) * BASE * 2) {
+            space *= BASE;
+            width++;
+        }
+
+        long step = space / 2 / (count + 1);
+        List<String> ranks = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            ranks.add(avoidTrailingZero(encode(step * i, width)));
+        }
+        return ranks;
+    }
+
+    // 맨 뒤에 추가할 때는 중간값 대신 마지막 자리를 1 올려서 키 길이가 늘어나지 않게 한다
+    private static String increment(String rank) {
+        char[] digits = rank.toCharArray();
+        for (int i = digits.length - 1; i >= 0; i--) {
+            int digit = DIGITS.indexOf(digits[i]);
+            if (digit < BASE - 1) {
+                digits[i] = DIGITS.charAt(digit + 1);
+                return avoidTrailingZero(new String(digits));
+            }
+            digits[i] = DIGITS.charAt(0);
+        }
+        return rank + DIGITS.charAt(BASE / 2);
+    }
+
+    private static String midpoint(String a, String b) {
+        int n = 0;
+        while (n < b.length() && digitAt(a, n) == b.charAt(n)) {
+            n++;
+        }
+        if (n > 0) {
+            return b.substring(0, n) + midpoint(n < a.length() ? a.substring(n) : "", b.substring(n));
+        }
+
+        int digitA = a.isEmpty() ? 0 : DIGITS.indexOf(a.charAt(0));
+        int digitB = DIGITS.indexOf(b.charAt(0));
+        if (digitB - digitA > 1) {
+            return String.valueOf(DIGITS.charAt((digitA + digitB) / 2));
+        }
+        if (b.length() > 1) {
+            return b.substring(0, 1);
+        }
+        return DIGITS.charAt(digitA) + between(a.isEmpty() ? null : a.substring(1), null);
+    }
+
+    private static char digitAt(String rank, int index) {
+        return index < rank.length() ? rank.charAt(index) : DIGITS.charAt(0);
+    }
+
+    private static String encode(long value, int width) {
+        char[] digits = new char[width];
+        for (int i = width - 1; i >= 0; i--) {
+            digits[i] = DIGITS.charAt((int) (value % BASE));
+            value /= BASE;
+        }
+        return new String(digits);
+    }
+
+    // 마지막 자리가 '0' 이면 한 칸 올린다. 같은 길이를 유지하고, 간격이 1보다 크므로 순서도 그대로다
+    private static String avoidTrailingZero(String rank) {
+        if (rank.charAt(rank.length() - 1) != DIGITS.charAt(0)) {
+            return rank;
+        }
+        return rank.substring(0, rank.length() - 1) + DIGITS.charAt(1);
+    }
+}
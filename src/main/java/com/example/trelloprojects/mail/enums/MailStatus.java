@@ -0,0 +1,8 @@
+package com.example.trelloprojects.mail.enums;
+
+public enum MailStatus {
+    PENDING,
+    SENDING,
+    SENT,
+    DEAD
+}
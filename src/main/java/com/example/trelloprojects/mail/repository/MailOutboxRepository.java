@@ -0,0 +1,47 @@
+package com.example.trelloprojects.mail.repository;
+
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.enums.MailStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    long countByStatus(MailStatus status);
+
+    @Query("SELECT m FROM MailOutbox m WHERE m.status IN :statuses AND m.nextAttemptAt <= :now "
+            + "ORDER BY m.nextAttemptAt")
+    List<MailOutbox> findDue(@Param("statuses") Collection<MailStatus> statuses,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    // 다른 서버가 먼저 가져갔으면 next_attempt_at 이 이미 미래라 0 을 돌려준다
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :sending, m.nextAttemptAt = :leaseUntil "
+            + "WHERE m.id = :id AND m.status IN :statuses AND m.nextAttemptAt <= :now")
+    int claim(@Param("id") Long id, @Param("statuses") Collection<MailStatus> statuses,
+            @Param("sending") MailStatus sending, @Param("now") LocalDateTime now,
+            @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.sentAt = :sentAt, m.attempts = m.attempts + 1 "
+            + "WHERE m.id = :id")
+    int markSent(@Param("id") Long id, @Param("status") MailStatus status,
+            @Param("sentAt") LocalDateTime sentAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = :status, m.attempts = :attempts, "
+            + "m.nextAttemptAt = :nextAttemptAt, m.lastError = :lastError WHERE m.id = :id")
+    int markFailed(@Param("id") Long id, @Param("status") MailStatus status,
+            @Param("attempts") int attempts, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+            @Param("lastError") String lastError);
+}
@@ -0,0 +1,158 @@
+package com.example.trelloprojects.mail.service;
+
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.enums.MailStatus;
+import com.example.trelloprojects.mail.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * outbox 의 메일을 PooledMailSender 의 연결 수만큼 나눠 보낸다. 실패하면 지수 백오프로 다시 시도하고,
+ * max-attempts 를 넘기면 DEAD 로 남겨서 운영자가 확인할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class MailOutboxDispatcher {
+
+    private static final Set<MailStatus> DISPATCHABLE = EnumSet.of(MailStatus.PENDING,
+            MailStatus.SENDING);
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final PooledMailSender mailSender;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration initialBackoff;
+    private final Duration maxBackoff;
+    private final Duration lease;
+
+    private final AtomicLong pending = new AtomicLong();
+    private final AtomicLong dead = new AtomicLong();
+    private final Counter sent;
+    private final Counter retried;
+    private final Counter deadLettered;
+    private final Timer sendTimer;
+
+    public MailOutboxDispatcher(MailOutboxRepository mailOutboxRepository,
+            PooledMailSender mailSender, MeterRegistry meterRegistry,
+            @Value("${mail.outbox.batch-size:50}") int batchSize,
+            @Value("${mail.outbox.max-attempts:8}") int maxAttempts,
+            @Value("${mail.outbox.initial-backoff:30s}") Duration initialBackoff,
+            @Value("${mail.outbox.max-backoff:1h}") Duration maxBackoff,
+            @Value("${mail.outbox.lease:5m}") Duration lease) {
+        this.mailOutboxRepository = mailOutboxRepository;
+        this.mailSender = mailSender;
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.initialBackoff = initialBackoff;
+        this.maxBackoff = maxBackoff;
+        this.lease = lease;
+
+        Gauge.builder("mail.outbox.depth", pending, AtomicLong::get)
+                .tag("status", "pending").register(meterRegistry);
+        Gauge.builder("mail.outbox.depth", dead, AtomicLong::get)
+                .tag("status", "dead").register(meterRegistry);
+        this.sent = Counter.builder("mail.outbox.sent").register(meterRegistry);
+        this.retried = Counter.builder("mail.outbox.retried").register(meterRegistry);
+        this.deadLettered = Counter.builder("mail.outbox.dead").register(meterRegistry);
+        this.sendTimer = Timer.builder("mail.outbox.batch").register(meterRegistry);
+    }
+
+    /**
+     * 보낼 차례가 된 메일을 batch-size 만큼 가져와 임대를 잡고 한 번에 보낸다.
+     * 동시에 열리는 SMTP 연결 수는 mail.smtp.pool-size 로 제한되고, 배치가 끝날 때까지 다음 실행은 시작하지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${mail.outbox.dispatch-delay:1000}")
+    public int dispatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<MailOutbox> claimed = new ArrayList<>();
+        List<MimeMessage> messages = new ArrayList<>();
+        for (MailOutbox mail : mailOutboxRepository.findDue(DISPATCHABLE, now,
+                PageRequest.of(0, batchSize))) {
+            if (mailOutboxRepository.claim(mail.getId(), DISPATCHABLE, MailStatus.SENDING, now,
+                    now.plus(lease)) == 1) {
+                try {
+                    messages.add(toMimeMessage(mail));
+                    claimed.add(mail);
+                } catch (MessagingException e) {
+                    fail(mail, e);
+                }
+            }
+        }
+
+        if (!messages.isEmpty()) {
+            long started = System.nanoTime();
+            List<MessagingException> failures = mailSender.sendAll(messages);
+            sendTimer.record(Duration.ofNanos(System.nanoTime() - started));
+
+            for (int i = 0; i < claimed.size(); i++) {
+                if (failures.get(i) == null) {
+                    mailOutboxRepository.markSent(claimed.get(i).getId(), MailStatus.SENT,
+                            LocalDateTime.now());
+                    sent.increment();
+                } else {
+                    fail(claimed.get(i), failures.get(i));
+                }
+            }
+        }
+
+        pending.set(mailOutboxRepository.countByStatus(MailStatus.PENDING)
+                + mailOutboxRepository.countByStatus(MailStatus.SENDING));
+        dead.set(mailOutboxRepository.countByStatus(MailStatus.DEAD));
+        return claimed.size();
+    }
+
+    private void fail(MailOutbox mail, Exception e) {
+        int attempts = mail.getAttempts() + 1;
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > MAX_ERROR_LENGTH) {
+            error = error.substring(0, MAX_ERROR_LENGTH);
+        }
+
+        if (attempts >= maxAttempts) {
+            mailOutboxRepository.markFailed(mail.getId(), MailStatus.DEAD, attempts,
+                    LocalDateTime.now(), error);
+            deadLettered.increment();
+            log.warn("mail {} to {} moved to dead letter after {} attempts", mail.getId(),
+                    mail.getRecipient(), attempts, e);
+            return;
+        }
+
+        mailOutboxRepository.markFailed(mail.getId(), MailStatus.PENDING, attempts,
+                LocalDateTime.now().plus(backoff(attempts)), error);
+        retried.increment();
+        log.info("mail {} failed (attempt {}), retrying later: {}", mail.getId(), attempts, error);
+    }
+
+    // initial-backoff * 2^(attempts-1), 최대 max-backoff
+    private Duration backoff(int attempts) {
+        Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+    }
+
+    private MimeMessage toMimeMessage(MailOutbox mail) throws MessagingException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setTo(mail.getRecipient());
+        helper.setSubject(mail.getSubject());
+        helper.setText(mail.getContent(), true);
+        return message;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.trelloprojects.mail.service;
+
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.repository.MailOutboxRepository;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 메일을 바로 보내지 않고 호출한 트랜잭션 안에서 outbox 에 쌓는다. 롤백되면 메일도 나가지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class MailOutboxService {
+
+    private final MailOutboxRepository mailOutboxRepository;
+
+    @Transactional
+    public void enqueue(MailOutbox mail) {
+        mailOutboxRepository.save(mail);
+    }
+
+    // 시퀀스 id 라서 hibernate.jdbc.batch_size 단위의 배치 INSERT 로 나간다
+    @Transactional
+    public void enqueueAll(List<MailOutbox> mails) {
+        mailOutboxRepository.saveAll(mails);
+    }
+}
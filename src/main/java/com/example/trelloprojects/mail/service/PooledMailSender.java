@@ -0,0 +1,164 @@
+package com.example.trelloprojects.mail.service;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 인증까지 끝난 SMTP 연결을 pool-size 개 유지하면서 재사용한다. 메일마다 연결, STARTTLS, 로그인을 반복하지 않고
+ * sendAll 은 메시지를 연결 수만큼 나눠 한 연결에서 연달아 보낸다.
+ * Transport 는 스레드에 안전하지 않으므로 한 연결은 한 번에 한 스레드만 빌려 쓴다.
+ */
+@Slf4j
+public class PooledMailSender implements AutoCloseable {
+
+    private final Session session;
+    private final String host;
+    private final int port;
+    private final String username;
+    private final String password;
+    private final int poolSize;
+    private final long maxIdleNanos;
+    private final BlockingQueue<PooledConnection> pool;
+    private final ExecutorService executor;
+
+    public PooledMailSender(Session session, String host, int port, String username,
+            String password, int poolSize, Duration maxIdle) {
+        this.session = session;
+        this.host = host;
+        this.port = port;
+        this.username = username;
+        this.password = password;
+        this.poolSize = poolSize;
+        this.maxIdleNanos = maxIdle.toNanos();
+        this.pool = new ArrayBlockingQueue<>(poolSize);
+        for (int i = 0; i < poolSize; i++) {
+            pool.add(new PooledConnection());
+        }
+        this.executor = Executors.newFixedThreadPool(poolSize);
+    }
+
+    public MimeMessage createMimeMessage() {
+        return new MimeMessage(session);
+    }
+
+    public void send(MimeMessage message) throws MessagingException {
+        MessagingException failure = sendAll(List.of(message)).get(0);
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    /**
+     * 메시지를 연결마다 나눠서 보낸다. 결과는 messages 와 같은 순서이고, 성공한 자리는 null, 실패한 자리는 원인이다.
+     */
+    public List<MessagingException> sendAll(List<MimeMessage> messages) {
+        MessagingException[] failures = new MessagingException[messages.size()];
+        AtomicInteger next = new AtomicInteger();
+
+        int workers = Math.min(poolSize, messages.size());
+        List<Future<?>> futures = new ArrayList<>(workers);
+        for (int i = 0; i < workers; i++) {
+            futures.add(executor.submit(() -> {
+                PooledConnection connection = borrow();
+                try {
+                    int index;
+                    while ((index = next.getAndIncrement()) < messages.size()) {
+                        failures[index] = connection.send(messages.get(index));
+                    }
+                } finally {
+                    pool.add(connection);
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("interrupted while sending mail", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("mail worker failed", e.getCause());
+            }
+        }
+        return Arrays.asList(failures);
+    }
+
+    private PooledConnection borrow() throws InterruptedException {
+        return pool.take();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        pool.forEach(PooledConnection::close);
+    }
+
+    private class PooledConnection {
+
+        private Transport transport;
+        private long lastUsed;
+
+        MessagingException send(MimeMessage message) {
+            try {
+                message.saveChanges();
+                sendOnce(message);
+                return null;
+            } catch (SendFailedException e) {
+                // 수신자 거절 같은 메시지 단위 실패. 다시 보내도 같으므로 연결만 새로 연다
+                close();
+                return e;
+            } catch (MessagingException e) {
+                // 서버가 유휴 연결을 끊었을 수 있으므로 새 연결로 한 번만 다시 보낸다
+                close();
+                try {
+                    sendOnce(message);
+                    return null;
+                } catch (MessagingException retryFailure) {
+                    close();
+                    return retryFailure;
+                }
+            }
+        }
+
+        private void sendOnce(MimeMessage message) throws MessagingException {
+            if (transport != null && System.nanoTime() - lastUsed > maxIdleNanos) {
+                close();
+            }
+            if (transport == null) {
+                transport = session.getTransport("smtp");
+                transport.connect(host, port, username, password);
+            }
+            transport.sendMessage(message, message.getAllRecipients());
+            lastUsed = System.nanoTime();
+        }
+
+        void close() {
+            if (transport == null) {
+                return;
+            }
+            try {
+                transport.close();
+            } catch (MessagingException e) {
+                log.debug("failed to close smtp connection", e);
+            }
+            transport = null;
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.trelloprojects.member.annotation;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@PreAuthorize("@workspaceGuard.canAccessCard(#cardId, authentication.principal)")
+public @interface CardMemberOnly {
+}
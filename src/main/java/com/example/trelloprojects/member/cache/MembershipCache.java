@@ -0,0 +1,66 @@
+package com.example.trelloprojects.member.cache;
+
+import com.example.trelloprojects.common.cache.BoundedCache;
+import com.example.trelloprojects.member.enums.MemberRole;
+import com.example.trelloprojects.member.repository.UserWorkspaceRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * (userId, workspaceId) 별 멤버 여부/관리자 여부 캐시. 멤버가 아니라는 결과(NONE)도 캐시한다.
+ * 멤버십이 바뀌면 커밋 이후에 지우고, 다른 서버에서 바뀐 값은 ttl 이 지나면 반영된다.
+ */
+@Component
+public class MembershipCache {
+
+    private final BoundedCache<MembershipKey, MemberRole> cache;
+    private final UserWorkspaceRepository userWorkspaceRepository;
+
+    public MembershipCache(UserWorkspaceRepository userWorkspaceRepository,
+            MeterRegistry meterRegistry,
+            @Value("${workspace.membership-cache.max-size:10000}") int maxSize,
+            @Value("${workspace.membership-cache.ttl:5m}") Duration ttl) {
+        this.userWorkspaceRepository = userWorkspaceRepository;
+        this.cache = new BoundedCache<MembershipKey, MemberRole>(maxSize, ttl)
+                .bindTo(meterRegistry, "workspace.membership");
+    }
+
+    public MemberRole get(Long userId, Long workspaceId) {
+        MembershipKey key = new MembershipKey(userId, workspaceId);
+        MemberRole role = cache.get(key);
+        if (role == null) {
+            role = userWorkspaceRepository.findAdminFlag(userId, workspaceId)
+                    .map(admin -> Boolean.TRUE.equals(admin) ? MemberRole.ADMIN : MemberRole.MEMBER)
+                    .orElse(MemberRole.NONE);
+            cache.put(key, role);
+        }
+        return role;
+    }
+
+    public void put(Long userId, Long workspaceId, MemberRole role) {
+        cache.put(new MembershipKey(userId, workspaceId), role);
+    }
+
+    // 커밋 전에 지우면 동시 요청이 바뀌기 전 값을 다시 캐시할 수 있다
+    public void invalidateAfterCommit(Long userId, Long workspaceId) {
+        MembershipKey key = new MembershipKey(userId, workspaceId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(key);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(key);
+            }
+        });
+    }
+
+    private record MembershipKey(Long userId, Long workspaceId) {
+
+    }
+}
@@ -2,12 +2,13 @@ package com.example.trelloprojects.member.controller;
 
 import com.example.trelloprojects.common.dto.MsgResponseDto;
 import com.example.trelloprojects.member.dto.AdminRoleUpdateRequestDto;
+import com.example.trelloprojects.member.dto.BulkInviteMemberRequestDto;
+import com.example.trelloprojects.member.dto.BulkInviteMemberResponseDto;
 import com.example.trelloprojects.member.dto.InviteMemberRequestDto;
 import com.example.trelloprojects.member.dto.MemberResponseDto;
 import com.example.trelloprojects.member.dto.RemoveMemberRequestDto;
 import com.example.trelloprojects.member.service.MemberService;
 import com.example.trelloprojects.user.entity.UserDetailsImpl;
-import jakarta.mail.MessagingException;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -37,11 +38,17 @@ public class MemberController {
 
     @PostMapping("/members/invite")
     public ResponseEntity<MsgResponseDto> inviteMember(@PathVariable Long workspaceId,
-            @RequestBody @Valid InviteMemberRequestDto requestDto) throws MessagingException {
+            @RequestBody @Valid InviteMemberRequestDto requestDto) {
         memberService.inviteMember(workspaceId, requestDto);
         return ResponseEntity.ok(new MsgResponseDto("워크스페이스 멤버 초대 성공", HttpStatus.OK.value()));
     }
 
+    @PostMapping("/members/invite/bulk")
+    public ResponseEntity<BulkInviteMemberResponseDto> inviteMembers(@PathVariable Long workspaceId,
+            @RequestBody @Valid BulkInviteMemberRequestDto requestDto) {
+        return ResponseEntity.ok(memberService.inviteMembers(workspaceId, requestDto));
+    }
+
     @PostMapping("/members/remove")
     public ResponseEntity<MsgResponseDto> removeMember(@PathVariable Long workspaceId,
             @RequestBody @Valid RemoveMemberRequestDto requestDto) {
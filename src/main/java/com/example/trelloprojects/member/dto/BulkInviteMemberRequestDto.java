@@ -0,0 +1,24 @@
+package com.example.trelloprojects.member.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+public class BulkInviteMemberRequestDto {
+
+    @NotNull
+    private Long inviterId;
+
+    @NotEmpty
+    @Size(max = 500)
+    private List<@NotBlank @Email String> inviteeEmails;
+}
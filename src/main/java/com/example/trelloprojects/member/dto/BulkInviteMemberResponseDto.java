@@ -0,0 +1,16 @@
+package com.example.trelloprojects.member.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * invited 는 새로 초대한 이메일, skipped 는 이미 멤버이거나 대기 중인 초대가 있어 건너뛴 이메일
+ */
+@Getter
+@AllArgsConstructor
+public class BulkInviteMemberResponseDto {
+
+    private List<String> invited;
+    private List<String> skipped;
+}
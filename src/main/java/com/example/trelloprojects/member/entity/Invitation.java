@@ -6,15 +6,22 @@ import com.example.trelloprojects.workspace.entity.Workspace;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Getter
 @Setter
-@Table(name = "invitation")
+@Table(name = "invitation", indexes = {
+        @Index(name = "idx_invitation_invite_code", columnList = "invite_code", unique = true),
+        @Index(name = "idx_invitation_workspace_status_email", columnList = "workspace_id, status, invitee_email"),
+        @Index(name = "idx_invitation_expires_at", columnList = "expires_at")
+})
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Invitation {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "invitation_seq")
+    @SequenceGenerator(name = "invitation_seq", sequenceName = "invitation_seq", allocationSize = 100)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -28,18 +35,23 @@ public class Invitation {
     @Column
     private String inviteeEmail;
 
-    @Column
+    @Column(name = "invite_code", nullable = false, length = 16)
     private String inviteCode;
 
     @Column
     @Enumerated(EnumType.STRING)
     private InvitationStatus status = InvitationStatus.PENDING;
 
-    public Invitation(User inviter, Workspace workspace, String inviteeEmail, String inviteCode) {
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public Invitation(User inviter, Workspace workspace, String inviteeEmail, String inviteCode,
+            LocalDateTime expiresAt) {
         this.inviter = inviter;
         this.workspace = workspace;
         this.inviteeEmail = inviteeEmail;
         this.inviteCode = inviteCode;
+        this.expiresAt = expiresAt;
     }
 
     public void markAsAccepted() {
@@ -0,0 +1,7 @@
+package com.example.trelloprojects.member.enums;
+
+public enum MemberRole {
+    ADMIN,
+    MEMBER,
+    NONE
+}
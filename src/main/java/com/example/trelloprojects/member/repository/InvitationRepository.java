@@ -2,11 +2,48 @@ package com.example.trelloprojects.member.repository;
 
 import com.example.trelloprojects.member.entity.Invitation;
 import com.example.trelloprojects.member.enums.InvitationStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface InvitationRepository extends JpaRepository<Invitation, Long> {
 
-    Optional<Invitation> findByInviteCodeAndStatus(String inviteCode, InvitationStatus invitationStatus);
+    // invite_code 유니크 인덱스로 한 행만 읽는다
+    @Query("SELECT i FROM Invitation i WHERE i.inviteCode = :inviteCode AND i.status = :status "
+            + "AND i.expiresAt > :now")
+    Optional<Invitation> findUsable(@Param("inviteCode") String inviteCode,
+            @Param("status") InvitationStatus status, @Param("now") LocalDateTime now);
+
+    // 소문자로 바꾼 emails 중 이미 워크스페이스 멤버이거나 만료되지 않은 대기 중 초대가 있는 이메일 (소문자로 돌려준다)
+    // 컬레이션과 관계없이 대소문자를 무시하도록 LOWER 로 비교한다. 행은 workspace_id 로 먼저 좁혀진다
+    @Query("SELECT LOWER(u.email) FROM UserWorkspace uw JOIN uw.user u "
+            + "WHERE uw.workspace.id = :workspaceId AND LOWER(u.email) IN :emails "
+            + "UNION "
+            + "SELECT LOWER(i.inviteeEmail) FROM Invitation i "
+            + "WHERE i.workspace.id = :workspaceId AND i.status = :status "
+            + "AND LOWER(i.inviteeEmail) IN :emails AND i.expiresAt > :now")
+    List<String> findJoinedOrInvitedEmails(@Param("workspaceId") Long workspaceId,
+            @Param("emails") Collection<String> emails, @Param("status") InvitationStatus status,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT i.id FROM Invitation i WHERE i.status = :accepted OR i.expiresAt <= :now ORDER BY i.id")
+    List<Long> findSweepableIds(@Param("accepted") InvitationStatus accepted,
+            @Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Invitation i SET i.expiresAt = :expiresAt WHERE i.expiresAt IS NULL")
+    int backfillExpiresAt(@Param("expiresAt") LocalDateTime expiresAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Invitation i WHERE i.workspace.id = :workspaceId")
+    int deleteAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
 }
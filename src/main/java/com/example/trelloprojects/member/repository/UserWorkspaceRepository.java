@@ -2,11 +2,23 @@ package com.example.trelloprojects.member.repository;
 
 import com.example.trelloprojects.member.entity.UserWorkspace;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 @Repository
 public interface UserWorkspaceRepository extends JpaRepository<UserWorkspace, Long> {
     Optional<UserWorkspace> findByUserIdAndWorkspaceId(Long userId, Long workspaceId);
+
+    @Query("SELECT uw.isAdmin FROM UserWorkspace uw WHERE uw.user.id = :userId AND uw.workspace.id = :workspaceId")
+    Optional<Boolean> findAdminFlag(@Param("userId") Long userId, @Param("workspaceId") Long workspaceId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM UserWorkspace uw WHERE uw.workspace.id = :workspaceId")
+    int deleteAllByWorkspaceId(@Param("workspaceId") Long workspaceId);
 }
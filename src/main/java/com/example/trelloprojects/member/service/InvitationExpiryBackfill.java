@@ -0,0 +1,38 @@
+package com.example.trelloprojects.member.service;
+
+import com.example.trelloprojects.member.repository.InvitationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * expires_at 이 생기기 전에 만든 초대에 지금부터 invitation.ttl 만큼의 만료 시각을 준다.
+ * 채울 행이 없으면 아무것도 바꾸지 않는다.
+ */
+@Slf4j
+@Order(3)
+@Component
+@RequiredArgsConstructor
+public class InvitationExpiryBackfill implements ApplicationRunner {
+
+    private final InvitationRepository invitationRepository;
+
+    @Value("${invitation.ttl:7d}")
+    private Duration invitationTtl;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        int updated = invitationRepository.backfillExpiresAt(LocalDateTime.now().plus(invitationTtl));
+        if (updated > 0) {
+            log.info("invitation expiry backfilled: {} rows", updated);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.trelloprojects.member.service;
+
+import com.example.trelloprojects.member.enums.InvitationStatus;
+import com.example.trelloprojects.member.repository.InvitationRepository;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수락됐거나 만료된 초대를 정해진 크기만큼 나눠서 지운다. 배치마다 트랜잭션이 따로라 잠금이 길게 잡히지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InvitationSweeper {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final InvitationRepository invitationRepository;
+
+    @Scheduled(cron = "${invitation.sweep-cron:0 30 4 * * *}")
+    public void sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        long deleted = 0;
+
+        List<Long> ids;
+        do {
+            ids = invitationRepository.findSweepableIds(InvitationStatus.ACCEPTED, now,
+                    PageRequest.of(0, BATCH_SIZE));
+            if (!ids.isEmpty()) {
+                invitationRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == BATCH_SIZE);
+
+        log.info("invitations swept: {} accepted or expired rows", deleted);
+    }
+}
@@ -2,47 +2,62 @@ package com.example.trelloprojects.member.service;
 
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.service.MailOutboxService;
 import com.example.trelloprojects.member.annotation.AdminOnly;
+import com.example.trelloprojects.member.cache.MembershipCache;
 import com.example.trelloprojects.member.dto.AdminRoleUpdateRequestDto;
+import com.example.trelloprojects.member.dto.BulkInviteMemberRequestDto;
+import com.example.trelloprojects.member.dto.BulkInviteMemberResponseDto;
 import com.example.trelloprojects.member.dto.InviteMemberRequestDto;
 import com.example.trelloprojects.member.dto.MemberResponseDto;
 import com.example.trelloprojects.member.dto.RemoveMemberRequestDto;
 import com.example.trelloprojects.member.entity.Invitation;
 import com.example.trelloprojects.member.entity.UserWorkspace;
 import com.example.trelloprojects.member.enums.InvitationStatus;
+import com.example.trelloprojects.member.enums.MemberRole;
 import com.example.trelloprojects.member.repository.InvitationRepository;
 import com.example.trelloprojects.member.repository.UserWorkspaceRepository;
 import com.example.trelloprojects.user.entity.User;
 import com.example.trelloprojects.user.entity.UserDetailsImpl;
 import com.example.trelloprojects.user.repository.UserRepository;
+import com.example.trelloprojects.workspace.access.WorkspaceAccessResolver;
 import com.example.trelloprojects.workspace.entity.Workspace;
-import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
-import jakarta.mail.MessagingException;
-import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
-import org.springframework.mail.javamail.JavaMailSender;
-import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Random;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class MemberService {
 
-    private final JavaMailSender mailSender;
+    private final MailOutboxService mailOutboxService;
     private final UserRepository userRepository;
-    private final WorkspaceRepository workspaceRepository;
     private final UserWorkspaceRepository userWorkspaceRepository;
     private final InvitationRepository invitationRepository;
+    private final MembershipCache membershipCache;
+    private final WorkspaceAccessResolver workspaceAccessResolver;
 
     private final Random random = new SecureRandom(); // 보안에 더 강력한 난수 생성
     private static final int INVITE_CODE_LENGTH = 8;
     private static final String CHARACTERS = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789"; // 초대 코드 생성에 사용할 문자와 숫자
 
+    @Value("${invitation.ttl:7d}")
+    private Duration invitationTtl;
+
     @Transactional(readOnly = true)
     public List<MemberResponseDto> getMembers(Long workspaceId) {
         Workspace workspace = findWorkspace(workspaceId);
@@ -55,7 +70,7 @@ public class MemberService {
 
     @AdminOnly
     @Transactional
-    public void inviteMember(Long workspaceId, InviteMemberRequestDto requestDto) throws MessagingException {
+    public void inviteMember(Long workspaceId, InviteMemberRequestDto requestDto) {
         Workspace workspace = findWorkspace(workspaceId);
         User inviter = findUser(requestDto.getInviterId());
         String inviteeEmail = requestDto.getInviteeEmail();
@@ -63,10 +78,53 @@ public class MemberService {
         String inviteCode = generateInviteCode();
         String inviteUrl = generateInviteUrl(workspace.getId(), inviteCode);
 
-        sendWorkspaceInvitation(inviteeEmail, inviter.getUsername(), workspace.getName(), inviteUrl);
+        queueWorkspaceInvitation(inviteeEmail, inviter.getUsername(), workspace.getName(), inviteUrl);
         saveInvitation(workspace, inviter, inviteeEmail, inviteCode);
     }
 
+    /**
+     * 여러 이메일을 한 번에 초대한다. 이미 멤버이거나 대기 중인 초대가 있는 이메일은 쿼리 한 번으로 걸러내고,
+     * 초대와 메일은 각각 배치 INSERT 로 저장한다.
+     */
+    @AdminOnly
+    @Transactional
+    public BulkInviteMemberResponseDto inviteMembers(Long workspaceId, BulkInviteMemberRequestDto requestDto) {
+        Workspace workspace = findWorkspace(workspaceId);
+        User inviter = findUser(requestDto.getInviterId());
+
+        // 대소문자/공백만 다른 이메일은 하나로 본다. 처음 입력된 표기를 유지한다
+        Map<String, String> emails = new LinkedHashMap<>();
+        for (String email : requestDto.getInviteeEmails()) {
+            String trimmed = email.trim();
+            emails.putIfAbsent(trimmed.toLowerCase(Locale.ROOT), trimmed);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        Set<String> existing = new HashSet<>(invitationRepository.findJoinedOrInvitedEmails(
+                workspaceId, emails.keySet(), InvitationStatus.PENDING, now));
+
+        List<String> invited = new ArrayList<>();
+        List<String> skipped = new ArrayList<>();
+        List<Invitation> invitations = new ArrayList<>();
+        List<MailOutbox> mails = new ArrayList<>();
+        emails.forEach((key, email) -> {
+            if (existing.contains(key)) {
+                skipped.add(email);
+                return;
+            }
+            String inviteCode = generateInviteCode();
+            invitations.add(new Invitation(inviter, workspace, email, inviteCode,
+                    now.plus(invitationTtl)));
+            mails.add(invitationMail(email, inviter.getUsername(), workspace.getName(),
+                    generateInviteUrl(workspace.getId(), inviteCode)));
+            invited.add(email);
+        });
+
+        invitationRepository.saveAll(invitations);
+        mailOutboxService.enqueueAll(mails);
+        return new BulkInviteMemberResponseDto(invited, skipped);
+    }
+
     @AdminOnly
     @Transactional
     public void removeMember(Long workspaceId, RemoveMemberRequestDto requestDto) {
@@ -74,6 +132,7 @@ public class MemberService {
 
         UserWorkspace userWorkspace = findUserWorkspace(user.getId(), workspaceId);
         userWorkspaceRepository.delete(userWorkspace);
+        membershipCache.invalidateAfterCommit(user.getId(), workspaceId);
     }
 
     @Transactional
@@ -84,12 +143,14 @@ public class MemberService {
 
         UserWorkspace userWorkspace = new UserWorkspace(user, workspace);
         userWorkspaceRepository.save(userWorkspace);
+        membershipCache.invalidateAfterCommit(user.getId(), workspaceId);
     }
 
     @Transactional
     public void leaveWorkspace(Long workspaceId, User user) {
         UserWorkspace userWorkspace = findUserWorkspace(user.getId(), workspaceId);
         userWorkspaceRepository.delete(userWorkspace);
+        membershipCache.invalidateAfterCommit(user.getId(), workspaceId);
     }
 
     @AdminOnly
@@ -97,31 +158,32 @@ public class MemberService {
     public void updateAdminRole(Long workspaceId, AdminRoleUpdateRequestDto requestDto) {
         UserWorkspace userWorkspace = findUserWorkspace(requestDto.getUserId(), workspaceId);
         userWorkspace.updateAdminRole(requestDto.getAdmin());
+        membershipCache.invalidateAfterCommit(requestDto.getUserId(), workspaceId);
     }
 
-    @Transactional(readOnly = true)
+    // @AdminOnly 에서 호출된다. 활성화 검사에서 읽은 요청 단위 결과를 그대로 쓴다
     public boolean isWorkspaceAdmin(Long workspaceId, UserDetailsImpl userDetails) {
-        UserWorkspace userWorkspace = findUserWorkspace(userDetails.getUser().getId(), workspaceId);
-        return userWorkspace.isAdmin();
+        MemberRole role = workspaceAccessResolver.resolve(workspaceId, userDetails.getUser().getId())
+                .getRole();
+        if (role == MemberRole.NONE) {
+            throw new BusinessException(ErrorCode.USER_DOES_NOT_BELONG_TO_WORKSPACE);
+        }
+        return role == MemberRole.ADMIN;
     }
 
-    private void sendWorkspaceInvitation(String inviteeEmail, String inviterName, String workspaceName, String inviteUrl) throws MessagingException {
+    // 메일은 outbox 에 쌓고 커밋 이후 MailOutboxDispatcher 가 보낸다
+    private void queueWorkspaceInvitation(String inviteeEmail, String inviterName, String workspaceName, String inviteUrl) {
+        mailOutboxService.enqueue(invitationMail(inviteeEmail, inviterName, workspaceName, inviteUrl));
+    }
+
+    private MailOutbox invitationMail(String inviteeEmail, String inviterName, String workspaceName, String inviteUrl) {
         String subject = "워크스페이스 초대 메일";
         String content = "<p>안녕하세요,</p>"
                 + "<p>" + inviterName + "님이 당신을 " + workspaceName + " 워크스페이스에 초대했습니다. 아래 링크를 클릭해 참여하세요.</p>"
                 + "<p><a href=\"" + inviteUrl + "\">워크스페이스 참여하기</a></p>"
                 + "<p>감사합니다.</p>";
 
-        sendHtmlEmail(inviteeEmail, subject, content);
-    }
-
-    private void sendHtmlEmail(String to, String subject, String htmlContent) throws MessagingException {
-        MimeMessage message = mailSender.createMimeMessage();
-        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
-        helper.setTo(to);
-        helper.setSubject(subject);
-        helper.setText(htmlContent, true);
-        mailSender.send(message);
+        return new MailOutbox(inviteeEmail, subject, content);
     }
 
     private String generateInviteCode() {
@@ -140,7 +202,8 @@ public class MemberService {
     }
 
     private void saveInvitation(Workspace workspace, User inviter, String inviteeEmail, String inviteCode) {
-        Invitation invitation = new Invitation(inviter, workspace, inviteeEmail, inviteCode);
+        Invitation invitation = new Invitation(inviter, workspace, inviteeEmail, inviteCode,
+                LocalDateTime.now().plus(invitationTtl));
         invitationRepository.save(invitation);
     }
 
@@ -150,8 +213,7 @@ public class MemberService {
     }
 
     private Workspace findWorkspace(Long id) {
-        return workspaceRepository.findById(id)
-                .orElseThrow(() -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+        return workspaceAccessResolver.findWorkspace(id);
     }
 
     private UserWorkspace findUserWorkspace(Long userId, Long workspaceId) {
@@ -160,7 +222,7 @@ public class MemberService {
     }
 
     private Invitation findPendingInvitation(String inviteCode) {
-        return invitationRepository.findByInviteCodeAndStatus(inviteCode, InvitationStatus.PENDING)
+        return invitationRepository.findUsable(inviteCode, InvitationStatus.PENDING, LocalDateTime.now())
                 .orElseThrow(() -> new BusinessException(ErrorCode.INVALID_INVITE_CODE));
     }
 }
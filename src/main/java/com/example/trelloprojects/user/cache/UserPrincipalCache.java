@@ -0,0 +1,64 @@
+package com.example.trelloprojects.user.cache;
+
+import com.example.trelloprojects.common.cache.BoundedCache;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 토큰 인증 시 쓰는 사용자 캐시 (user id -> User). 요청마다 사용자 조회를 하지 않도록 짧은 TTL 동안 보관한다.
+ * 권한/이메일/비밀번호가 바뀌면 커밋 이후에 지워서 다음 요청이 새 값을 읽게 한다.
+ */
+@Component
+public class UserPrincipalCache {
+
+    private final BoundedCache<Long, User> cache;
+    private final UserRepository userRepository;
+
+    public UserPrincipalCache(UserRepository userRepository, MeterRegistry meterRegistry,
+            @Value("${jwt.principal-cache.max-size:10000}") int maxSize,
+            @Value("${jwt.principal-cache.ttl:30s}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = new BoundedCache<Long, User>(maxSize, ttl)
+                .bindTo(meterRegistry, "user.principal");
+    }
+
+    public User get(Long userId) {
+        User user = cache.get(userId);
+        if (user == null) {
+            user = userRepository.findById(userId).orElse(null);
+            if (user != null) {
+                cache.put(userId, user);
+            }
+        }
+        return user;
+    }
+
+    // id 클레임이 없는 예전 토큰용. 이메일로 읽은 사용자도 id 로 캐시해서 이후 무효화 대상이 되게 한다
+    public User getByEmail(String email) {
+        User user = email == null ? null : userRepository.findByEmail(email);
+        if (user != null) {
+            cache.put(user.getId(), user);
+        }
+        return user;
+    }
+
+    // 커밋 전에 지우면 동시 요청이 바뀌기 전 값을 다시 캐시할 수 있다
+    public void invalidateAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(userId);
+            }
+        });
+    }
+}
@@ -7,6 +7,7 @@ import com.example.trelloprojects.user.dto.LoginRequest;
 import com.example.trelloprojects.user.dto.UpdateEmailRequest;
 import com.example.trelloprojects.user.dto.UpdatePasswordRequest;
 import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.user.security.TokenProvider;
 import com.example.trelloprojects.user.service.UserService;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -16,6 +17,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -39,6 +41,14 @@ public class UserController {
         return ResponseEntity.ok(new MsgResponseDto("로그인 성공", HttpStatus.OK.value()));
     }
 
+    @PostMapping("/log-out")
+    public ResponseEntity<MsgResponseDto> logOut(
+            @RequestHeader(TokenProvider.HEADER_AUTHORIZATION) String authorization,
+            @AuthenticationPrincipal UserDetailsImpl userDetails) {
+        userService.logOut(authorization, userDetails);
+        return ResponseEntity.ok(new MsgResponseDto("로그아웃 성공", HttpStatus.OK.value()));
+    }
+
     @PutMapping("/email")
     public ResponseEntity<MsgResponseDto> updateEmail(@RequestBody UpdateEmailRequest request,
             @AuthenticationPrincipal
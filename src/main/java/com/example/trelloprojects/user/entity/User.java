@@ -16,7 +16,10 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Date;
 import java.util.List;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -45,6 +48,10 @@ public class User {
     @Enumerated(value = EnumType.STRING)
     private UserRoleEnum role;
 
+    // 이 시각 이전에 발급된 토큰은 모두 폐기된 것으로 본다
+    @Column(name = "tokens_valid_after")
+    private LocalDateTime tokensValidAfter;
+
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "user", cascade = CascadeType.REMOVE)
     private List<UserCard> userCards = new ArrayList<>();
 
@@ -72,6 +79,17 @@ public class User {
         this.password = password;
     }
 
+    // JWT 의 iat 는 초 단위라 같은 초에 새로 발급된 토큰이 막히지 않도록 초 단위로 맞춘다
+    public void revokeTokens() {
+        this.tokensValidAfter = LocalDateTime.now().withNano(0);
+    }
+
+    public boolean isTokenRevoked(Date issuedAt) {
+        return tokensValidAfter != null && (issuedAt == null
+                || LocalDateTime.ofInstant(issuedAt.toInstant(), ZoneId.systemDefault())
+                .isBefore(tokensValidAfter));
+    }
+
     public void updateRoleWithDraw() {
         this.role = UserRoleEnum.WITHDRAW;
     }
@@ -0,0 +1,28 @@
+package com.example.trelloprojects.user.repository;
+
+import com.example.trelloprojects.user.entity.RevokedToken;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface RevokedTokenRepository extends JpaRepository<RevokedToken, Long> {
+
+    boolean existsByJti(String jti);
+
+    @Query("SELECT t FROM RevokedToken t WHERE t.expiresAt > :now AND t.id > :afterId ORDER BY t.id")
+    List<RevokedToken> findLiveAfter(@Param("now") LocalDateTime now, @Param("afterId") Long afterId,
+            Pageable pageable);
+
+    @Query("SELECT t.jti FROM RevokedToken t WHERE t.revokedAt >= :since AND t.expiresAt > :now")
+    List<String> findJtisRevokedSince(@Param("since") LocalDateTime since,
+            @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.id FROM RevokedToken t WHERE t.expiresAt <= :now ORDER BY t.id")
+    List<Long> findExpiredIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT COUNT(t) FROM RevokedToken t WHERE t.expiresAt > :now")
+    long countLive(@Param("now") LocalDateTime now);
+}
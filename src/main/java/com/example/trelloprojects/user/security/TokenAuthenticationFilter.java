@@ -1,6 +1,9 @@
 package com.example.trelloprojects.user.security;
 
 
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -15,6 +18,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 public class TokenAuthenticationFilter extends OncePerRequestFilter {
 
     private final TokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
 
     @Override
     protected void doFilterInternal(
@@ -22,15 +26,33 @@ public class TokenAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
+        // 토큰 검증과 사용자 조회 시간만 잰다 (뒤쪽 필터 체인은 http.server.requests 에 포함된다)
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = authenticate(request);
+        sample.stop(Timer.builder("security.token.authentication")
+                .tag("result", result)
+                .register(meterRegistry));
+
+        filterChain.doFilter(request, response);
+    }
+
+    private String authenticate(HttpServletRequest request) {
         String authorizationHeader = request.getHeader(TokenProvider.HEADER_AUTHORIZATION);
         String token = getAccessToken(authorizationHeader);
-
-        if (tokenProvider.validToken(token)) {
-            Authentication authentication = tokenProvider.getAuthentication(token);
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        if (token == null) {
+            return "anonymous";
         }
 
-        filterChain.doFilter(request, response);
+        Claims claims = tokenProvider.parseClaims(token);
+        if (claims == null) {
+            return "rejected";
+        }
+        Authentication authentication = tokenProvider.getAuthentication(token, claims);
+        if (authentication == null) {
+            return "rejected";
+        }
+        SecurityContextHolder.getContext().setAuthentication(authentication);
+        return "authenticated";
     }
 
     private String getAccessToken(String authorizationHeader) {
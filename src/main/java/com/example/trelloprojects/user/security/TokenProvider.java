@@ -1,17 +1,19 @@
 package com.example.trelloprojects.user.security;
 
 
+import com.example.trelloprojects.user.cache.UserPrincipalCache;
 import com.example.trelloprojects.user.entity.User;
-import com.example.trelloprojects.user.entity.UserDetailServiceImp;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.user.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 @RequiredArgsConstructor
@@ -19,7 +21,8 @@ import org.springframework.stereotype.Service;
 public class TokenProvider {
 
     private final JwtProperties jwtProperties;
-    private final UserDetailServiceImp userDetailServiceImp;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
 
     public static final String HEADER_AUTHORIZATION = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
@@ -34,6 +37,7 @@ public class TokenProvider {
 
         return BEARER_PREFIX +
                 Jwts.builder()
+                        .setId(UUID.randomUUID().toString())
                         .setIssuer(jwtProperties.getIssuer())
                         .setIssuedAt(now)
                         .setExpiration(expiry)
@@ -43,29 +47,43 @@ public class TokenProvider {
                         .compact();
     }
 
-    public boolean validToken(String token) {
+    /**
+     * 서명/만료를 한 번만 검증하고 클레임을 돌려준다. 유효하지 않으면 null.
+     */
+    public Claims parseClaims(String token) {
+        if (token == null) {
+            return null;
+        }
         try {
-            Jwts.parser()
+            return Jwts.parser()
                     .setSigningKey(jwtProperties.getSecretKey())
-                    .parseClaimsJws(token);
-            return true;
+                    .parseClaimsJws(token)
+                    .getBody();
         } catch (Exception e) {
-            return false;
+            return null;
         }
     }
 
-    public Authentication getAuthentication(String token) {
-        Claims claims = getClaims(token);
-        UserDetails userDetails = userDetailServiceImp.loadUserByUsername(claims.getSubject());
+    /**
+     * 검증된 클레임의 id 로 사용자 캐시에서 인증 정보를 만든다. 캐시 적중 시 DB 조회가 없다.
+     * id 클레임이 없는 예전 토큰은 만료될 때까지 subject(이메일)로 사용자를 찾는다.
+     * 토큰 발급 이후 이메일이 바뀌었거나, 사용자가 없거나, 폐기된 토큰이면 null.
+     */
+    public Authentication getAuthentication(String token, Claims claims) {
+        if (tokenRevocationService.isRevoked(claims.getId())) {
+            return null;
+        }
+
+        Object id = claims.get("id");
+        User user = id instanceof Number number ? userPrincipalCache.get(number.longValue())
+                : userPrincipalCache.getByEmail(claims.getSubject());
+        if (user == null || !user.getEmail().equals(claims.getSubject())
+                || user.isTokenRevoked(claims.getIssuedAt())) {
+            return null;
+        }
+
+        UserDetailsImpl userDetails = new UserDetailsImpl(user);
         return new UsernamePasswordAuthenticationToken(userDetails, token,
                 userDetails.getAuthorities());
     }
-
-    private Claims getClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(jwtProperties.getSecretKey())
-                .parseClaimsJws(token)
-                .getBody();
-    }
-
 }
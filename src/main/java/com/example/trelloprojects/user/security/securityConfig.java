@@ -1,6 +1,8 @@
 package com.example.trelloprojects.user.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -20,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 public class securityConfig {
 
     private final TokenProvider tokenProvider;
+    private final MeterRegistry meterRegistry;
 
     @Bean
     public BCryptPasswordEncoder bCryptPasswordEncoder() {
@@ -28,7 +31,7 @@ public class securityConfig {
 
     @Bean
     public TokenAuthenticationFilter tokenAuthenticationFilter() {
-        return new TokenAuthenticationFilter(tokenProvider);
+        return new TokenAuthenticationFilter(tokenProvider, meterRegistry);
     }
 
     @Bean
@@ -44,6 +47,8 @@ public class securityConfig {
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations())
                         .permitAll()
                         .requestMatchers("/api/sign-up", "/api/log-in", "/api/activate").permitAll()
+                        // 스크레이프용 엔드포인트는 management.server.port 로만 열린다
+                        .requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
                         .anyRequest().hasRole("USER"));
         return http.build();
     }
@@ -0,0 +1,138 @@
+package com.example.trelloprojects.user.service;
+
+import com.example.trelloprojects.common.bloom.BloomFilter;
+import com.example.trelloprojects.user.entity.RevokedToken;
+import com.example.trelloprojects.user.repository.RevokedTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * jti 단위 토큰 폐기 목록. 요청마다 메모리의 Bloom filter 를 먼저 보고, 있을 수도 있다고 할 때만 DB 를 확인한다.
+ * 다른 서버에서 폐기한 토큰은 sync 주기마다 필터에 더해지고, 만료된 항목은 compact 에서 지운 뒤 필터를 새로 만든다.
+ */
+@Slf4j
+@Service
+public class TokenRevocationService implements SmartInitializingSingleton {
+
+    private static final int PAGE_SIZE = 1000;
+    // revoked_at 은 커밋 전에 정해지므로 늦게 커밋된 행도 다음 sync 에서 읽히도록 구간을 겹쳐 읽는다
+    private static final Duration SYNC_OVERLAP = Duration.ofMinutes(1);
+
+    private final RevokedTokenRepository revokedTokenRepository;
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final Counter revokedHits;
+    private final Counter falsePositives;
+
+    private volatile BloomFilter bloomFilter;
+    private volatile LocalDateTime syncedAt;
+
+    public TokenRevocationService(RevokedTokenRepository revokedTokenRepository,
+            MeterRegistry meterRegistry,
+            @Value("${jwt.revocation.expected-insertions:100000}") long expectedInsertions,
+            @Value("${jwt.revocation.false-positive-rate:0.001}") double falsePositiveRate) {
+        this.revokedTokenRepository = revokedTokenRepository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        this.syncedAt = LocalDateTime.now();
+        this.revokedHits = Counter.builder("jwt.revocation.lookups")
+                .tag("result", "revoked").register(meterRegistry);
+        this.falsePositives = Counter.builder("jwt.revocation.lookups")
+                .tag("result", "false_positive").register(meterRegistry);
+    }
+
+    // 웹 요청을 받기 전에 필터를 채워 둔다
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Transactional
+    public void revoke(String jti, Long userId, Date expiresAt) {
+        if (jti == null || revokedTokenRepository.existsByJti(jti)) {
+            return;
+        }
+        revokedTokenRepository.save(new RevokedToken(jti, userId,
+                LocalDateTime.ofInstant(expiresAt.toInstant(), ZoneId.systemDefault())));
+        bloomFilter.put(jti);
+    }
+
+    /**
+     * 대부분의 요청은 Bloom filter 에서 바로 false 로 끝나고, 필터가 true 일 때만 DB 를 조회한다.
+     * jti 가 없는 예전 토큰은 사용자 단위 폐기(User.tokensValidAfter)로만 막을 수 있다.
+     */
+    public boolean isRevoked(String jti) {
+        if (jti == null || !bloomFilter.mightContain(jti)) {
+            return false;
+        }
+        if (revokedTokenRepository.existsByJti(jti)) {
+            revokedHits.increment();
+            return true;
+        }
+        falsePositives.increment();
+        return false;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.sync-delay:5000}")
+    public void sync() {
+        LocalDateTime now = LocalDateTime.now();
+        List<String> jtis = revokedTokenRepository.findJtisRevokedSince(
+                syncedAt.minus(SYNC_OVERLAP), now);
+        BloomFilter filter = bloomFilter;
+        jtis.forEach(filter::put);
+        syncedAt = now;
+    }
+
+    @Scheduled(cron = "${jwt.revocation.compaction-cron:0 15 * * * *}")
+    public void compact() {
+        LocalDateTime now = LocalDateTime.now();
+        long deleted = 0;
+
+        List<Long> ids;
+        do {
+            ids = revokedTokenRepository.findExpiredIds(now, PageRequest.of(0, PAGE_SIZE));
+            if (!ids.isEmpty()) {
+                revokedTokenRepository.deleteAllByIdInBatch(ids);
+                deleted += ids.size();
+            }
+        } while (ids.size() == PAGE_SIZE);
+
+        // Bloom filter 는 지울 수 없으므로 만료된 항목이 빠진 필터를 새로 만든다
+        rebuild();
+        log.info("revoked tokens compacted: {} expired rows removed", deleted);
+    }
+
+    private void rebuild() {
+        LocalDateTime now = LocalDateTime.now();
+        long live = revokedTokenRepository.countLive(now);
+        BloomFilter filter = new BloomFilter(Math.max(expectedInsertions, live * 2),
+                falsePositiveRate);
+
+        long lastId = 0L;
+        List<RevokedToken> page;
+        do {
+            page = revokedTokenRepository.findLiveAfter(now, lastId, PageRequest.of(0, PAGE_SIZE));
+            for (RevokedToken token : page) {
+                filter.put(token.getJti());
+                lastId = token.getId();
+            }
+        } while (page.size() == PAGE_SIZE);
+
+        // 새 필터를 만드는 동안 폐기된 토큰은 다음 sync 가 now 이후를 다시 읽어서 채운다
+        bloomFilter = filter;
+        syncedAt = now;
+    }
+}
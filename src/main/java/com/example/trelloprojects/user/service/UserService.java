@@ -1,8 +1,13 @@
 package com.example.trelloprojects.user.service;
 
 
+import com.example.trelloprojects.card.repository.ArchivedCardRepository;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.comment.repository.CommentRepository;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.user.cache.UserPrincipalCache;
 import com.example.trelloprojects.user.dto.AddUserRequest;
 import com.example.trelloprojects.user.dto.CheckPasswordRequest;
 import com.example.trelloprojects.user.dto.LoginRequest;
@@ -13,6 +18,7 @@ import com.example.trelloprojects.user.entity.UserDetailsImpl;
 import com.example.trelloprojects.user.entity.UserRoleEnum;
 import com.example.trelloprojects.user.repository.UserRepository;
 import com.example.trelloprojects.user.security.TokenProvider;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletResponse;
 import java.time.Duration;
 import lombok.RequiredArgsConstructor;
@@ -32,6 +38,11 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthenticationConfiguration authenticationConfiguration;
     private final TokenProvider tokenProvider;
+    private final UserPrincipalCache userPrincipalCache;
+    private final TokenRevocationService tokenRevocationService;
+    private final CommentRepository commentRepository;
+    private final CardRepository cardRepository;
+    private final ArchivedCardRepository archivedCardRepository;
 
     @Transactional
     public User signUp(AddUserRequest request) {
@@ -54,6 +65,7 @@ public class UserService {
         }
 
         user.updateEmail(request);
+        userPrincipalCache.invalidateAfterCommit(user.getId());
     }
 
     @Transactional
@@ -65,6 +77,8 @@ public class UserService {
         }
 
         user.updatePassword(passwordEncoder.encode(request.getNewPassword()));
+        user.revokeTokens();
+        userPrincipalCache.invalidateAfterCommit(user.getId());
     }
 
     @Transactional
@@ -76,6 +90,9 @@ public class UserService {
         }
 
         user.updateRoleWithDraw();
+        user.revokeTokens();
+        renameCommentAuthor(user.getId(), Comment.WITHDRAWN_AUTHOR);
+        userPrincipalCache.invalidateAfterCommit(user.getId());
     }
 
     @Transactional
@@ -90,12 +107,21 @@ public class UserService {
             }
 
             checkUser.updateRoleUSER();
+            renameCommentAuthor(checkUser.getId(), checkUser.getUsername());
+            userPrincipalCache.invalidateAfterCommit(checkUser.getId());
         } catch (Exception e) {
             throw new BusinessException(ErrorCode.BAD_ID_PASSWORD);
         }
         
     }
 
+    // 댓글 작성자 이름은 카드 상세 응답에 들어가므로 해당 카드의 버전도 함께 올린다
+    private void renameCommentAuthor(Long userId, String username) {
+        cardRepository.increaseChangeVersionByCommentAuthor(userId);
+        commentRepository.updateAuthorName(userId, username);
+        archivedCardRepository.updateCommentAuthorName(userId, username);
+    }
+
     public User findUser(UserDetailsImpl userDetails) {
         return userRepository.findById(userDetails.getUser().getId()).orElseThrow(
                 () -> new BusinessException(ErrorCode.USER_NOT_FOUND)
@@ -130,4 +156,15 @@ public class UserService {
             throw new BusinessException(ErrorCode.WITHDRAW_USER);
         }
     }
+
+    // 요청에 쓰인 토큰만 폐기한다. 필터에서 이미 검증된 토큰이다
+    public void logOut(String authorizationHeader, UserDetailsImpl userDetails) {
+        String token = authorizationHeader.substring(TokenProvider.BEARER_PREFIX.length());
+        Claims claims = tokenProvider.parseClaims(token);
+        if (claims == null) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+        tokenRevocationService.revoke(claims.getId(), userDetails.getUser().getId(),
+                claims.getExpiration());
+    }
 }
@@ -3,10 +3,25 @@ package com.example.trelloprojects.user_card.repository;
 import com.example.trelloprojects.card.entity.Card;
 import com.example.trelloprojects.user.entity.User;
 import com.example.trelloprojects.user_card.entity.UserCard;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserCardRepository extends JpaRepository<UserCard, Long> {
 
   Optional<UserCard> findByUserAndCard(User user, Card card);
+
+  @Query("SELECT uc FROM UserCard uc JOIN FETCH uc.user WHERE uc.card.columns.board.id = :boardId")
+  List<UserCard> findAllByBoardIdWithUser(@Param("boardId") Long boardId);
+
+  @Query("SELECT uc FROM UserCard uc JOIN FETCH uc.user WHERE uc.card.id IN :cardIds")
+  List<UserCard> findAllByCardIdInWithUser(@Param("cardIds") Collection<Long> cardIds);
+
+  @Modifying
+  @Query("DELETE FROM UserCard uc WHERE uc.card.id IN :cardIds")
+  int deleteAllByCardIdIn(@Param("cardIds") Collection<Long> cardIds);
 }
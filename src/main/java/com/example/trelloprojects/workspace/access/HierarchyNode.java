@@ -0,0 +1,8 @@
+package com.example.trelloprojects.workspace.access;
+
+public enum HierarchyNode {
+    BOARD,
+    COLUMN,
+    CARD,
+    COMMENT
+}
@@ -0,0 +1,53 @@
+package com.example.trelloprojects.workspace.access;
+
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.member.enums.MemberRole;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import lombok.Getter;
+
+/**
+ * 한 요청 안에서 워크스페이스와 현재 사용자의 멤버 여부/관리자 여부를 함께 담는다.
+ * 워크스페이스가 없으면 workspace 가 null 이다.
+ */
+@Getter
+public class WorkspaceAccess {
+
+    private static final WorkspaceAccess NOT_FOUND = new WorkspaceAccess(null, null, null);
+
+    private final Workspace workspace;
+    private final MemberRole role;
+
+    // WorkspaceRepository.findAccess 의 생성자 표현식에서 쓴다. 멤버가 아니면 membershipId 가 null 이다
+    public WorkspaceAccess(Workspace workspace, Long membershipId, Boolean admin) {
+        this.workspace = workspace;
+        if (membershipId == null) {
+            this.role = MemberRole.NONE;
+        } else {
+            this.role = Boolean.TRUE.equals(admin) ? MemberRole.ADMIN : MemberRole.MEMBER;
+        }
+    }
+
+    public static WorkspaceAccess notFound() {
+        return NOT_FOUND;
+    }
+
+    public Workspace requireWorkspace() {
+        if (workspace == null) {
+            throw new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND);
+        }
+        return workspace;
+    }
+
+    public Workspace requireActive() {
+        if (requireWorkspace().getStatus() == WorkspaceStatus.DELETED) {
+            throw new BusinessException(ErrorCode.DELETED_WORKSPACE);
+        }
+        return workspace;
+    }
+
+    public boolean isAdmin() {
+        return role == MemberRole.ADMIN;
+    }
+}
@@ -0,0 +1,85 @@
+package com.example.trelloprojects.workspace.access;
+
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.member.cache.MembershipCache;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import jakarta.persistence.EntityManager;
+import java.util.Comparator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * 워크스페이스 상태와 현재 사용자의 멤버십을 쿼리 한 번으로 읽고 요청이 끝날 때까지 재사용한다.
+ * 활성화 검사(WorkspaceActivationAspect), @AdminOnly, 서비스의 findWorkspace 가 같은 결과를 쓴다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceAccessResolver {
+
+    private static final String ATTRIBUTE_PREFIX = WorkspaceAccessResolver.class.getName() + ".";
+
+    private final WorkspaceRepository workspaceRepository;
+    private final MembershipCache membershipCache;
+    private final EntityManager entityManager;
+
+    public WorkspaceAccess resolve(Long workspaceId) {
+        return resolve(workspaceId, currentUserId());
+    }
+
+    public WorkspaceAccess resolve(Long workspaceId, Long userId) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        String key = ATTRIBUTE_PREFIX + workspaceId + "." + userId;
+        if (attributes != null) {
+            Object cached = attributes.getAttribute(key, RequestAttributes.SCOPE_REQUEST);
+            if (cached instanceof WorkspaceAccess access) {
+                return access;
+            }
+        }
+
+        WorkspaceAccess access = load(workspaceId, userId);
+        if (attributes != null) {
+            attributes.setAttribute(key, access, RequestAttributes.SCOPE_REQUEST);
+        }
+        return access;
+    }
+
+    /**
+     * 서비스에서 수정할 워크스페이스. 미리 읽은 엔티티가 현재 영속성 컨텍스트에 없으면
+     * (open-in-view 가 꺼진 경우 등) 변경 감지가 되도록 다시 읽는다.
+     */
+    public Workspace findWorkspace(Long workspaceId) {
+        Workspace workspace = resolve(workspaceId).requireWorkspace();
+        if (entityManager.contains(workspace)) {
+            return workspace;
+        }
+        return workspaceRepository.findById(workspaceId).orElseThrow(
+                () -> new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+    }
+
+    private WorkspaceAccess load(Long workspaceId, Long userId) {
+        // 같은 사용자의 멤버십 행이 여러 개면 가장 높은 권한(ADMIN < MEMBER < NONE 순서)을 쓴다
+        WorkspaceAccess access = workspaceRepository.findAccess(workspaceId, userId).stream()
+                .min(Comparator.comparing(WorkspaceAccess::getRole))
+                .orElse(WorkspaceAccess.notFound());
+        if (access.getWorkspace() != null && userId != null) {
+            membershipCache.put(userId, workspaceId, access.getRole());
+        }
+        return access;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null
+                && authentication.getPrincipal() instanceof UserDetailsImpl userDetails) {
+            return userDetails.getUser().getId();
+        }
+        return null;
+    }
+}
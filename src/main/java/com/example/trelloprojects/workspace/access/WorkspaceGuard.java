@@ -0,0 +1,49 @@
+package com.example.trelloprojects.workspace.access;
+
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.member.cache.MembershipCache;
+import com.example.trelloprojects.member.enums.MemberRole;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * @PreAuthorize 에서 쓰는 멤버십 검사. 계층 색인으로 워크스페이스를 찾고 멤버십 캐시로 판단한다.
+ * 멤버가 아니면 403(M003), 대상이 없으면 통과시켜서 서비스가 NOT_FOUND 를 돌려주게 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspaceGuard {
+
+    private final WorkspaceHierarchyIndex workspaceHierarchyIndex;
+    private final MembershipCache membershipCache;
+
+    public boolean isMember(Long workspaceId, UserDetailsImpl userDetails) {
+        if (membershipCache.get(userDetails.getUser().getId(), workspaceId) == MemberRole.NONE) {
+            throw new BusinessException(ErrorCode.NOT_WORKSPACE_MEMBER);
+        }
+        return true;
+    }
+
+    public boolean canAccess(HierarchyNode node, Long id, UserDetailsImpl userDetails) {
+        Long workspaceId = workspaceHierarchyIndex.workspaceOf(node, id);
+        return workspaceId == null || isMember(workspaceId, userDetails);
+    }
+
+    public boolean canAccessBoard(Long boardId, UserDetailsImpl userDetails) {
+        return canAccess(HierarchyNode.BOARD, boardId, userDetails);
+    }
+
+    public boolean canAccessColumn(Long columnId, UserDetailsImpl userDetails) {
+        return canAccess(HierarchyNode.COLUMN, columnId, userDetails);
+    }
+
+    public boolean canAccessCard(Long cardId, UserDetailsImpl userDetails) {
+        return canAccess(HierarchyNode.CARD, cardId, userDetails);
+    }
+
+    public boolean canAccessComment(Long commentId, UserDetailsImpl userDetails) {
+        return canAccess(HierarchyNode.COMMENT, commentId, userDetails);
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.trelloprojects.workspace.access;
+
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.card.repository.CardRepository;
+import com.example.trelloprojects.columns.repository.ColumnsRepository;
+import com.example.trelloprojects.comment.repository.CommentRepository;
+import com.example.trelloprojects.common.cache.BoundedCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 보드/컬럼/카드/댓글 id -> 워크스페이스 id 색인. 권한 검사 때 card -> column -> board -> workspace 를
+ * 따라가지 않고 캐시 한 번으로 워크스페이스를 찾는다. 못 찾으면 조인 쿼리 한 번으로 채운다.
+ * id 는 재사용되지 않으므로 부모가 지워진 뒤 남은 자식 항목은 무해하고 ttl 이 지나면 빠진다.
+ * 댓글은 워크스페이스 대신 카드 id 를 저장하고 CARD 항목으로 워크스페이스를 찾는다. 카드가 다른 워크스페이스로
+ * 옮겨져도 CARD 항목 하나만 바꾸면 되고, 댓글 항목은 오래된 워크스페이스를 가리킬 수 없다.
+ */
+@Component
+public class WorkspaceHierarchyIndex {
+
+    private final Map<HierarchyNode, BoundedCache<Long, Long>> caches =
+            new EnumMap<>(HierarchyNode.class);
+    private final BoardRepository boardRepository;
+    private final ColumnsRepository columnsRepository;
+    private final CardRepository cardRepository;
+    private final CommentRepository commentRepository;
+
+    public WorkspaceHierarchyIndex(BoardRepository boardRepository,
+            ColumnsRepository columnsRepository, CardRepository cardRepository,
+            CommentRepository commentRepository, MeterRegistry meterRegistry,
+            @Value("${workspace.hierarchy-cache.max-size:100000}") int maxSize,
+            @Value("${workspace.hierarchy-cache.ttl:10m}") Duration ttl) {
+        this.boardRepository = boardRepository;
+        this.columnsRepository = columnsRepository;
+        this.cardRepository = cardRepository;
+        this.commentRepository = commentRepository;
+        for (HierarchyNode node : HierarchyNode.values()) {
+            caches.put(node, new BoundedCache<Long, Long>(maxSize, ttl).bindTo(meterRegistry,
+                    "workspace.hierarchy." + node.name().toLowerCase(Locale.ROOT)));
+        }
+    }
+
+    // 대상이 없으면 null
+    public Long workspaceOf(HierarchyNode node, Long id) {
+        Long parentId = lookup(node, id);
+        if (node == HierarchyNode.COMMENT && parentId != null) {
+            return workspaceOf(HierarchyNode.CARD, parentId);
+        }
+        return parentId;
+    }
+
+    // 댓글의 카드는 바뀌지 않으므로 커밋 여부와 관계없이 바로 넣는다
+    public void putComment(Long commentId, Long cardId) {
+        caches.get(HierarchyNode.COMMENT).put(commentId, cardId);
+    }
+
+    // COMMENT 는 putComment 로 넣는다
+    public void put(HierarchyNode node, Long id, Long workspaceId) {
+        if (workspaceId != null) {
+            caches.get(node).put(id, workspaceId);
+        }
+    }
+
+    // 롤백되면 이전 부모가 그대로이므로 커밋된 뒤에만 바꾼다
+    public void putAfterCommit(HierarchyNode node, Long id, Long workspaceId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            put(node, id, workspaceId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                put(node, id, workspaceId);
+            }
+        });
+    }
+
+    public void evict(HierarchyNode node, Long id) {
+        caches.get(node).invalidate(id);
+    }
+
+    private Long lookup(HierarchyNode node, Long id) {
+        BoundedCache<Long, Long> cache = caches.get(node);
+        Long value = cache.get(id);
+        if (value == null) {
+            value = load(node, id).orElse(null);
+            if (value != null) {
+                cache.put(id, value);
+            }
+        }
+        return value;
+    }
+
+    // BOARD/COLUMN/CARD 는 워크스페이스 id, COMMENT 는 카드 id
+    private Optional<Long> load(HierarchyNode node, Long id) {
+        return switch (node) {
+            case BOARD -> boardRepository.findWorkspaceIdById(id);
+            case COLUMN -> columnsRepository.findWorkspaceIdById(id);
+            case CARD -> cardRepository.findWorkspaceIdById(id);
+            case COMMENT -> commentRepository.findCardIdById(id);
+        };
+    }
+}
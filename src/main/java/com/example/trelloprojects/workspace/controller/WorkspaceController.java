@@ -4,9 +4,11 @@ package com.example.trelloprojects.workspace.controller;
 import com.example.trelloprojects.board.dto.BoardResponseDto;
 
 import com.example.trelloprojects.common.dto.MsgResponseDto;
+import com.example.trelloprojects.member.annotation.WorkspaceMemberOnly;
 import com.example.trelloprojects.user.entity.UserDetailsImpl;
 import com.example.trelloprojects.workspace.dto.CreateWorkspaceRequestDto;
 import com.example.trelloprojects.workspace.dto.UpdateWorkspaceRequestDto;
+import com.example.trelloprojects.workspace.dto.WorkspaceDashboardResponseDto;
 import com.example.trelloprojects.workspace.dto.WorkspaceResponseDto;
 import com.example.trelloprojects.workspace.service.WorkspaceService;
 import jakarta.validation.Valid;
@@ -63,4 +65,13 @@ public class WorkspaceController {
         return ResponseEntity.ok(boards);
 
     }
+
+    // 보드마다 컬럼/카드/지연 카드/작업자 수를 함께 돌려준다. after 는 이전 응답의 nextCursor
+    @WorkspaceMemberOnly
+    @GetMapping("/{workspaceId}/dashboard")
+    public ResponseEntity<WorkspaceDashboardResponseDto> getDashboard(@PathVariable Long workspaceId,
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + WorkspaceService.DEFAULT_DASHBOARD_PAGE_SIZE) int size) {
+        return ResponseEntity.ok(workspaceService.getDashboard(workspaceId, after, size));
+    }
 }
\ No newline at end of file
@@ -0,0 +1,21 @@
+package com.example.trelloprojects.workspace.dto;
+
+import com.example.trelloprojects.board.dto.BoardSummaryDto;
+import java.util.List;
+import lombok.Getter;
+
+@Getter
+public class WorkspaceDashboardResponseDto {
+    private final Long id;
+    private final String name;
+    private final List<BoardSummaryDto> boards;
+    private final Long nextCursor; // 다음 페이지 요청의 after 값, 마지막 페이지면 null
+
+    public WorkspaceDashboardResponseDto(Long id, String name, List<BoardSummaryDto> boards,
+            Long nextCursor) {
+        this.id = id;
+        this.name = name;
+        this.boards = boards;
+        this.nextCursor = nextCursor;
+    }
+}
@@ -9,11 +9,12 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 @Getter
-@Table(name = "workspace")
+@Table(name = "workspace", indexes = @Index(name = "idx_workspace_status_deleted_at", columnList = "status, deleted_at"))
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Workspace {
@@ -31,6 +32,10 @@ public class Workspace {
     @Enumerated(EnumType.STRING)
     private WorkspaceStatus status = WorkspaceStatus.ACTIVE;
 
+    // 보존 기간이 지나면 WorkspacePurgeJob 이 하위 데이터까지 영구 삭제한다
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     @OneToMany(mappedBy = "workspace")
     private List<UserWorkspace> members = new ArrayList<>();
 
@@ -46,10 +51,12 @@ public class Workspace {
 
     public void delete() {
         this.status = WorkspaceStatus.DELETED;
+        this.deletedAt = LocalDateTime.now();
     }
 
     public void reopen() {
         this.status = WorkspaceStatus.ACTIVE;
+        this.deletedAt = null;
     }
 
     public WorkspaceResponseDto toDto() {
@@ -0,0 +1,53 @@
+package com.example.trelloprojects.workspace.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 영구 삭제가 진행 중인 워크스페이스의 체크포인트. 청크마다 갱신되고 워크스페이스 행을 지운 뒤 함께 지워진다.
+ * 재시작하면 이 행이 남은 워크스페이스부터 이어서 지운다.
+ */
+@Entity
+@Getter
+@Table(name = "workspace_purge")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class WorkspacePurge {
+
+    @Id
+    @Column(name = "workspace_id")
+    private Long workspaceId;
+
+    @Column(name = "boards_purged", nullable = false)
+    private long boardsPurged;
+
+    @Column(name = "rows_purged", nullable = false)
+    private long rowsPurged;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public WorkspacePurge(Long workspaceId) {
+        this.workspaceId = workspaceId;
+        this.startedAt = LocalDateTime.now();
+        this.updatedAt = this.startedAt;
+    }
+
+    public void rowsPurged(int rows) {
+        this.rowsPurged += rows;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void boardPurged(int rows) {
+        this.boardsPurged++;
+        rowsPurged(rows);
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.trelloprojects.workspace.repository;
+
+import com.example.trelloprojects.workspace.entity.WorkspacePurge;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface WorkspacePurgeRepository extends JpaRepository<WorkspacePurge, Long> {
+
+    Optional<WorkspacePurge> findFirstByOrderByStartedAtAsc();
+}
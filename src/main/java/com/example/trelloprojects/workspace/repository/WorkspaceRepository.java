@@ -1,10 +1,50 @@
 package com.example.trelloprojects.workspace.repository;
 
+import com.example.trelloprojects.workspace.access.WorkspaceAccess;
 import com.example.trelloprojects.workspace.entity.Workspace;
+import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 @Repository
 public interface WorkspaceRepository extends JpaRepository<Workspace, Long> {
 
+    @Query("SELECT new com.example.trelloprojects.workspace.access.WorkspaceAccess(w, uw.id, uw.isAdmin) "
+            + "FROM Workspace w LEFT JOIN UserWorkspace uw ON uw.workspace = w AND uw.user.id = :userId "
+            + "WHERE w.id = :workspaceId")
+    List<WorkspaceAccess> findAccess(@Param("workspaceId") Long workspaceId,
+            @Param("userId") Long userId);
+
+    boolean existsByIdAndStatus(Long id, WorkspaceStatus status);
+
+    // 복구와 영구 삭제 시작/마무리는 이 행 잠금으로 줄 세운다
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM Workspace w WHERE w.id = :workspaceId AND w.status = :status")
+    Optional<Workspace> findByIdAndStatusForUpdate(@Param("workspaceId") Long workspaceId,
+            @Param("status") WorkspaceStatus status);
+
+    @Query("SELECT w.id FROM Workspace w WHERE w.status = :status AND w.deletedAt < :before ORDER BY w.deletedAt")
+    List<Long> findPurgeableIds(@Param("status") WorkspaceStatus status,
+            @Param("before") LocalDateTime before, Pageable pageable);
+
+    // deleted_at 이 생기기 전에 삭제된 워크스페이스는 지금부터 보존 기간을 센다
+    @Transactional
+    @Modifying
+    @Query("UPDATE Workspace w SET w.deletedAt = :now WHERE w.status = :status AND w.deletedAt IS NULL")
+    int backfillDeletedAt(@Param("status") WorkspaceStatus status, @Param("now") LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM Workspace w WHERE w.id = :workspaceId AND w.status = :status")
+    int deleteRowById(@Param("workspaceId") Long workspaceId, @Param("status") WorkspaceStatus status);
 }
@@ -0,0 +1,145 @@
+package com.example.trelloprojects.workspace.service;
+
+import com.example.trelloprojects.board.cache.BoardSnapshotCache;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter.DeletedChunk;
+import com.example.trelloprojects.workspace.entity.WorkspacePurge;
+import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import com.example.trelloprojects.workspace.repository.WorkspacePurgeRepository;
+import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 삭제된 지 보존 기간이 지난 워크스페이스를 보드 → 멤버/초대 → 워크스페이스 순서로 영구 삭제한다.
+ * 카드 청크마다 트랜잭션을 끝내고 pause 만큼 쉬어서 잠금을 오래 잡지 않고,
+ * 한 번 실행은 max-run-time 을 넘기지 않는다. 진행 상황은 workspace_purge 에 남겨 재시작 후 이어서 지운다.
+ */
+@Slf4j
+@Component
+public class WorkspacePurgeJob {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspacePurgeRepository workspacePurgeRepository;
+    private final BoardRepository boardRepository;
+    private final WorkspacePurgeSteps workspacePurgeSteps;
+    private final BoardSubtreeDeleter boardSubtreeDeleter;
+    private final BoardSnapshotCache boardSnapshotCache;
+    private final Duration retention;
+    private final Duration pause;
+    private final Duration maxRunTime;
+
+    private final Counter purgedRows;
+    private final Counter purgedWorkspaces;
+    private final Timer chunkTimer;
+
+    public WorkspacePurgeJob(WorkspaceRepository workspaceRepository,
+            WorkspacePurgeRepository workspacePurgeRepository, BoardRepository boardRepository,
+            WorkspacePurgeSteps workspacePurgeSteps,
+            BoardSubtreeDeleter boardSubtreeDeleter, BoardSnapshotCache boardSnapshotCache,
+            MeterRegistry meterRegistry,
+            @Value("${workspace.purge.retention:30d}") Duration retention,
+            @Value("${workspace.purge.pause:100ms}") Duration pause,
+            @Value("${workspace.purge.max-run-time:5m}") Duration maxRunTime) {
+        this.workspaceRepository = workspaceRepository;
+        this.workspacePurgeRepository = workspacePurgeRepository;
+        this.boardRepository = boardRepository;
+        this.workspacePurgeSteps = workspacePurgeSteps;
+        this.boardSubtreeDeleter = boardSubtreeDeleter;
+        this.boardSnapshotCache = boardSnapshotCache;
+        this.retention = retention;
+        this.pause = pause;
+        this.maxRunTime = maxRunTime;
+
+        this.purgedRows = Counter.builder("workspace.purge.rows").register(meterRegistry);
+        this.purgedWorkspaces = Counter.builder("workspace.purge.workspaces").register(meterRegistry);
+        this.chunkTimer = Timer.builder("workspace.purge.chunk").register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${workspace.purge.cron:0 */10 * * * *}")
+    public void purge() {
+        long started = System.nanoTime();
+        long deadline = started + maxRunTime.toNanos();
+        long rows = 0;
+
+        workspaceRepository.backfillDeletedAt(WorkspaceStatus.DELETED, LocalDateTime.now());
+        try {
+            WorkspacePurge checkpoint;
+            while (System.nanoTime() < deadline && (checkpoint = nextCheckpoint()) != null) {
+                rows += purgeWorkspace(checkpoint, deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        if (rows > 0) {
+            long millis = Math.max(1, Duration.ofNanos(System.nanoTime() - started).toMillis());
+            log.info("workspace purge: {} rows in {} ms ({} rows/s)", rows, millis,
+                    rows * 1000 / millis);
+        }
+    }
+
+    // 중단된 체크포인트가 있으면 그 워크스페이스부터 이어서 지운다
+    private WorkspacePurge nextCheckpoint() {
+        return workspacePurgeRepository.findFirstByOrderByStartedAtAsc().orElseGet(() -> {
+            List<Long> ids = workspaceRepository.findPurgeableIds(WorkspaceStatus.DELETED,
+                    LocalDateTime.now().minus(retention), PageRequest.of(0, 1));
+            // 고른 직후 복구되었으면 null 이고, 이번 실행은 여기서 끝난다
+            return ids.isEmpty() ? null : workspacePurgeSteps.start(ids.get(0));
+        });
+    }
+
+    // 마감 시각이 지나면 체크포인트만 남기고 멈춘다
+    private long purgeWorkspace(WorkspacePurge checkpoint, long deadline)
+            throws InterruptedException {
+        Long workspaceId = checkpoint.getWorkspaceId();
+        long rows = 0;
+
+        if (!workspaceRepository.existsByIdAndStatus(workspaceId, WorkspaceStatus.DELETED)) {
+            // 행 잠금 도입 전에 만들어진 체크포인트가 복구된 워크스페이스를 가리키면 아무것도 지우지 않는다
+            workspacePurgeRepository.delete(checkpoint);
+            return rows;
+        }
+
+        for (Long boardId : boardRepository.findIdsByWorkspaceId(workspaceId)) {
+            DeletedChunk chunk;
+            do {
+                if (System.nanoTime() >= deadline) {
+                    return rows;
+                }
+                chunk = chunkTimer.record(() -> boardSubtreeDeleter.deleteBoardCards(boardId));
+                checkpoint.rowsPurged(chunk.rows());
+                workspacePurgeRepository.save(checkpoint);
+                rows += purged(chunk.rows());
+                Thread.sleep(pause.toMillis());
+            } while (chunk.full());
+
+            int boardRows = boardSubtreeDeleter.deleteBoardRows(boardId);
+            boardSnapshotCache.invalidate(boardId);
+            checkpoint.boardPurged(boardRows);
+            workspacePurgeRepository.save(checkpoint);
+            rows += purged(boardRows);
+        }
+
+        int memberRows = workspacePurgeSteps.finish(workspaceId);
+        purgedWorkspaces.increment();
+        log.info("workspace {} purged: {} boards, {} rows", workspaceId,
+                checkpoint.getBoardsPurged(), checkpoint.getRowsPurged() + memberRows);
+        return rows + purged(memberRows);
+    }
+
+    private int purged(int rows) {
+        purgedRows.increment(rows);
+        return rows;
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.trelloprojects.workspace.service;
+
+import com.example.trelloprojects.member.repository.InvitationRepository;
+import com.example.trelloprojects.member.repository.UserWorkspaceRepository;
+import com.example.trelloprojects.workspace.entity.WorkspacePurge;
+import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import com.example.trelloprojects.workspace.repository.WorkspacePurgeRepository;
+import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * WorkspacePurgeJob 의 시작/마무리 트랜잭션. 둘 다 워크스페이스 행을 잠그고 DELETED 상태인지 확인하므로
+ * 같은 잠금을 잡는 WorkspaceService.reopenWorkspace 와 겹치지 않는다.
+ * 체크포인트가 생긴 뒤에는 복구가 거절되므로 그 사이의 보드 삭제도 복구와 경합하지 않는다.
+ */
+@Component
+@RequiredArgsConstructor
+public class WorkspacePurgeSteps {
+
+    private final WorkspaceRepository workspaceRepository;
+    private final WorkspacePurgeRepository workspacePurgeRepository;
+    private final InvitationRepository invitationRepository;
+    private final UserWorkspaceRepository userWorkspaceRepository;
+
+    // 그 사이 복구되었으면 null
+    @Transactional
+    public WorkspacePurge start(Long workspaceId) {
+        if (workspaceRepository.findByIdAndStatusForUpdate(workspaceId, WorkspaceStatus.DELETED)
+                .isEmpty()) {
+            return null;
+        }
+        return workspacePurgeRepository.save(new WorkspacePurge(workspaceId));
+    }
+
+    // 멤버/초대/워크스페이스 행을 지우고 체크포인트를 닫는다. DELETED 가 아니면 아무것도 지우지 않는다
+    @Transactional
+    public int finish(Long workspaceId) {
+        int rows = 0;
+        if (workspaceRepository.findByIdAndStatusForUpdate(workspaceId, WorkspaceStatus.DELETED)
+                .isPresent()) {
+            rows = invitationRepository.deleteAllByWorkspaceId(workspaceId)
+                    + userWorkspaceRepository.deleteAllByWorkspaceId(workspaceId)
+                    + workspaceRepository.deleteRowById(workspaceId, WorkspaceStatus.DELETED);
+        }
+        workspacePurgeRepository.deleteById(workspaceId);
+        return rows;
+    }
+}
@@ -1,21 +1,28 @@
 package com.example.trelloprojects.workspace.service;
 
 import com.example.trelloprojects.board.dto.BoardResponseDto;
+import com.example.trelloprojects.board.dto.BoardSummaryDto;
 import com.example.trelloprojects.board.entity.Board;
 import com.example.trelloprojects.board.repository.BoardRepository;
 import com.example.trelloprojects.common.error.BusinessException;
 import com.example.trelloprojects.common.error.ErrorCode;
 import com.example.trelloprojects.member.annotation.AdminOnly;
+import com.example.trelloprojects.member.cache.MembershipCache;
 import com.example.trelloprojects.member.entity.UserWorkspace;
 import com.example.trelloprojects.member.repository.UserWorkspaceRepository;
 import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.access.WorkspaceAccessResolver;
 import com.example.trelloprojects.workspace.dto.CreateWorkspaceRequestDto;
 import com.example.trelloprojects.workspace.dto.UpdateWorkspaceRequestDto;
+import com.example.trelloprojects.workspace.dto.WorkspaceDashboardResponseDto;
 import com.example.trelloprojects.workspace.dto.WorkspaceResponseDto;
 import com.example.trelloprojects.workspace.entity.Workspace;
 import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import com.example.trelloprojects.workspace.repository.WorkspacePurgeRepository;
 import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import java.time.LocalDateTime;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,9 +32,15 @@ import java.util.List;
 @RequiredArgsConstructor
 public class WorkspaceService {
 
+    public static final int DEFAULT_DASHBOARD_PAGE_SIZE = 20;
+    private static final int MAX_DASHBOARD_PAGE_SIZE = 100;
+
     private final WorkspaceRepository workspaceRepository;
     private final UserWorkspaceRepository userWorkspaceRepository;
     private final BoardRepository boardRepository;
+    private final MembershipCache membershipCache;
+    private final WorkspaceAccessResolver workspaceAccessResolver;
+    private final WorkspacePurgeRepository workspacePurgeRepository;
 
     @Transactional
     public void createWorkspace(CreateWorkspaceRequestDto requestDto, User user) {
@@ -37,6 +50,7 @@ public class WorkspaceService {
         UserWorkspace userWorkspace = new UserWorkspace(user, workspace);
         userWorkspace.updateAdminRole(true);
         userWorkspaceRepository.save(userWorkspace);
+        membershipCache.invalidateAfterCommit(user.getId(), workspace.getId());
     }
 
     @Transactional(readOnly = true)
@@ -62,7 +76,15 @@ public class WorkspaceService {
     @AdminOnly
     @Transactional
     public void reopenWorkspace(Long workspaceId) {
-        Workspace workspace = findDeletedWorkspace(workspaceId);
+        findDeletedWorkspace(workspaceId);
+        // 영구 삭제 체크포인트를 만드는 트랜잭션과 같은 행 잠금을 잡고 체크포인트를 확인한다
+        Workspace workspace = workspaceRepository.findByIdAndStatusForUpdate(workspaceId,
+                WorkspaceStatus.DELETED).orElseThrow(() ->
+                new BusinessException(ErrorCode.ALREADY_ACTIVATED_WORKSPACE)
+        );
+        if (workspacePurgeRepository.existsById(workspaceId)) {
+            throw new BusinessException(ErrorCode.WORKSPACE_BEING_PURGED);
+        }
         workspace.reopen();
     }
 
@@ -74,6 +96,19 @@ public class WorkspaceService {
                 .toList();
     }
 
+    // 보드별 집계를 한 쿼리로 가져온다. 한 개를 더 읽어서 다음 페이지가 있는지 판단한다
+    @Transactional(readOnly = true)
+    public WorkspaceDashboardResponseDto getDashboard(Long workspaceId, Long after, int size) {
+        Workspace workspace = findWorkspace(workspaceId);
+        int limit = Math.max(1, Math.min(size, MAX_DASHBOARD_PAGE_SIZE));
+        List<BoardSummaryDto> rows = boardRepository.findSummaries(workspaceId,
+                after == null ? 0L : after, LocalDateTime.now(), PageRequest.of(0, limit + 1));
+
+        List<BoardSummaryDto> boards = rows.size() > limit ? rows.subList(0, limit) : rows;
+        return new WorkspaceDashboardResponseDto(workspace.getId(), workspace.getName(), boards,
+                rows.size() > limit ? boards.get(limit - 1).getId() : null);
+    }
+
     private Workspace findDeletedWorkspace(Long id) {
         Workspace workspace = findWorkspace(id);
 
@@ -85,7 +120,6 @@ public class WorkspaceService {
     }
 
     private Workspace findWorkspace(Long id) {
-        return workspaceRepository.findById(id).orElseThrow(() ->
-                new BusinessException(ErrorCode.WORKSPACE_NOT_FOUND));
+        return workspaceAccessResolver.findWorkspace(id);
     }
 }
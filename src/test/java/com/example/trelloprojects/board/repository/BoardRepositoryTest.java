@@ -0,0 +1,111 @@
+package com.example.trelloprojects.board.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.dto.BoardSummaryDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+class BoardRepositoryTest {
+
+    private static final int BOARD_COUNT = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Test
+    void findSummariesAggregatesEachBoardInOneStatement() {
+        Long workspaceId = createWorkspace();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<BoardSummaryDto> firstPage = boardRepository.findSummaries(workspaceId, 0L,
+                LocalDateTime.now(), PageRequest.of(0, 3));
+        List<BoardSummaryDto> secondPage = boardRepository.findSummaries(workspaceId,
+                firstPage.get(2).getId(), LocalDateTime.now(), PageRequest.of(0, 3));
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+        assertThat(firstPage).hasSize(3);
+        assertThat(secondPage).hasSize(BOARD_COUNT - 3);
+
+        // i 번째 보드: 컬럼 i 개, 컬럼마다 카드 2 장 (한 장은 마감일이 지남), 작업자는 한 명
+        BoardSummaryDto board = secondPage.get(1);
+        assertThat(board.getName()).isEqualTo("board4");
+        assertThat(board.getColumnCount()).isEqualTo(4);
+        assertThat(board.getCardCount()).isEqualTo(8);
+        assertThat(board.getOverdueCardCount()).isEqualTo(4);
+        assertThat(board.getMemberCount()).isEqualTo(1);
+        assertThat(firstPage.get(0).getCardCount()).isZero();
+        assertThat(firstPage.get(0).getMemberCount()).isZero();
+    }
+
+    private Long createWorkspace() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+
+        for (int i = 0; i < BOARD_COUNT; i++) {
+            BoardRequestDto boardRequest = new BoardRequestDto();
+            boardRequest.setName("board" + i);
+            Board board = new Board(boardRequest, workspace);
+            ReflectionTestUtils.setField(board, "columnCount", (long) i);
+            entityManager.persist(board);
+
+            for (int j = 0; j < i; j++) {
+                AddColumnsRequest columnsRequest = new AddColumnsRequest();
+                ReflectionTestUtils.setField(columnsRequest, "name", "column" + j);
+                Columns columns = new Columns(columnsRequest, (long) j, board);
+                ReflectionTestUtils.setField(columns, "cardCount", 2L);
+                entityManager.persist(columns);
+
+                CardRequestDto overdue = new CardRequestDto();
+                overdue.setTitle("overdue");
+                overdue.setDeadLine(LocalDateTime.now().minusDays(1));
+                Card overdueCard = new Card(overdue, columns, "a");
+                entityManager.persist(overdueCard);
+                entityManager.persist(new UserCard(user, overdueCard));
+
+                CardRequestDto upcoming = new CardRequestDto();
+                upcoming.setTitle("upcoming");
+                upcoming.setDeadLine(LocalDateTime.now().plusDays(1));
+                entityManager.persist(new Card(upcoming, columns, "b"));
+            }
+        }
+        return workspace.getId();
+    }
+}
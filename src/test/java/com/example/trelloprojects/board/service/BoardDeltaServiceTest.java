@@ -0,0 +1,224 @@
+package com.example.trelloprojects.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.example.trelloprojects.board.cache.BoardSnapshotCache;
+import com.example.trelloprojects.board.dto.BoardDeltaResponseDto;
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.card.dto.CardChangeDto;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.service.CardService;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.dto.ColumnChangeDto;
+import com.example.trelloprojects.columns.dto.ReorderRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.columns.service.impl.ColumnsServiceImpl;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({BoardDeltaService.class, BoardChangeService.class, BoardSubtreeDeleter.class,
+        ColumnsServiceImpl.class})
+class BoardDeltaServiceTest {
+
+    private static final int COLUMN_COUNT = 4;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoardDeltaService boardDeltaService;
+
+    @Autowired
+    private BoardChangeService boardChangeService;
+
+    @Autowired
+    private ColumnsServiceImpl columnsService;
+
+    @Autowired
+    private BoardSubtreeDeleter boardSubtreeDeleter;
+
+    @MockBean
+    private BoardService boardService;
+
+    @MockBean
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @MockBean
+    private CardService cardService;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    private Board board;
+    private final List<Columns> columns = new ArrayList<>();
+
+    @Test
+    void changesSinceMixInsertMoveAndDelete() {
+        createBoard();
+        Card moved = persistCard("moved");
+        Card deleted = persistCard("deleted");
+        long since = version();
+
+        Card inserted = persistCard("inserted");
+        boardChangeService.cardChanged(board.getId(), inserted.getId(), BoardChangeType.INSERTED);
+        Card transientCard = persistCard("transient");
+        boardChangeService.cardChanged(board.getId(), transientCard.getId(),
+                BoardChangeType.INSERTED);
+        boardChangeService.cardChanged(board.getId(), moved.getId(), BoardChangeType.MOVED);
+        removeCard(deleted);
+        boardChangeService.cardChanged(board.getId(), deleted.getId(), BoardChangeType.DELETED);
+        removeCard(transientCard);
+        boardChangeService.cardChanged(board.getId(), transientCard.getId(),
+                BoardChangeType.DELETED);
+
+        BoardDeltaResponseDto delta = changesSince(since);
+
+        assertThat(delta.isFullSnapshot()).isFalse();
+        assertThat(delta.getVersion()).isEqualTo(since + 5);
+        assertThat(delta.getCards())
+                .extracting(CardChangeDto::getId, CardChangeDto::getChange, CardChangeDto::getTitle)
+                .containsExactly(
+                        tuple(inserted.getId(), BoardChangeType.INSERTED, "inserted"),
+                        tuple(transientCard.getId(), BoardChangeType.DELETED, null),
+                        tuple(moved.getId(), BoardChangeType.MOVED, "moved"),
+                        tuple(deleted.getId(), BoardChangeType.DELETED, null));
+        assertThat(changesSince(version()).getCards()).isEmpty();
+    }
+
+    @Test
+    void columnMoveAndDeleteLogEveryShiftedColumn() {
+        createBoard();
+        long since = version();
+
+        // column0 을 2 번 자리로 옮기면 column1, column2 가 한 칸씩 앞으로 온다
+        ReorderRequest request = new ReorderRequest();
+        ReflectionTestUtils.setField(request, "position", 2L);
+        columnsService.reorder(columns.get(0).getId(), request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(changesSince(since).getColumns())
+                .extracting(ColumnChangeDto::getId, ColumnChangeDto::getChange,
+                        ColumnChangeDto::getPosition)
+                .containsExactlyInAnyOrder(
+                        tuple(columns.get(0).getId(), BoardChangeType.MOVED, 2L),
+                        tuple(columns.get(1).getId(), BoardChangeType.MOVED, 0L),
+                        tuple(columns.get(2).getId(), BoardChangeType.MOVED, 1L));
+
+        // 맨 앞의 column1 을 지우면 뒤쪽 컬럼이 모두 한 칸씩 당겨진다
+        since = version();
+        boardSubtreeDeleter.deleteColumnRow(columns.get(1).getId());
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(changesSince(since).getColumns())
+                .extracting(ColumnChangeDto::getId, ColumnChangeDto::getChange,
+                        ColumnChangeDto::getPosition)
+                .containsExactly(
+                        tuple(columns.get(1).getId(), BoardChangeType.DELETED, null),
+                        tuple(columns.get(2).getId(), BoardChangeType.MOVED, 0L),
+                        tuple(columns.get(0).getId(), BoardChangeType.MOVED, 1L),
+                        tuple(columns.get(3).getId(), BoardChangeType.MOVED, 2L));
+    }
+
+    @Test
+    void compactedLogFallsBackToFullSnapshot() {
+        createBoard();
+        long since = version();
+        for (Columns column : columns) {
+            boardChangeService.columnChanged(board.getId(), column.getId(),
+                    BoardChangeType.UPDATED);
+        }
+
+        assertThat(changesSince(since).isFullSnapshot()).isFalse();
+
+        entityManager.createQuery("DELETE FROM BoardChange c WHERE c.boardId = :boardId"
+                        + " AND c.sequence = :sequence")
+                .setParameter("boardId", board.getId())
+                .setParameter("sequence", since + 1)
+                .executeUpdate();
+
+        BoardDeltaResponseDto delta = changesSince(since);
+        assertThat(delta.isFullSnapshot()).isTrue();
+        assertThat(delta.getVersion()).isEqualTo(since + COLUMN_COUNT);
+        assertThat(delta.getColumns()).isNull();
+        // since+2 부터는 로그가 남아 있으므로 델타로 답한다
+        assertThat(changesSince(since + 1).isFullSnapshot()).isFalse();
+    }
+
+    @Test
+    void reloadedMarkerForcesFullSnapshot() {
+        createBoard();
+        long since = version();
+        boardChangeService.columnChanged(board.getId(), columns.get(0).getId(),
+                BoardChangeType.UPDATED);
+        boardChangeService.boardReloaded(board.getId());
+        boardChangeService.columnChanged(board.getId(), columns.get(1).getId(),
+                BoardChangeType.UPDATED);
+
+        assertThat(changesSince(since).isFullSnapshot()).isTrue();
+        assertThat(changesSince(since + 1).isFullSnapshot()).isTrue();
+        // RELOADED 이후만 요청하면 다시 델타로 답한다
+        assertThat(changesSince(since + 2).isFullSnapshot()).isFalse();
+    }
+
+    private BoardDeltaResponseDto changesSince(long since) {
+        entityManager.flush();
+        entityManager.clear();
+        return boardDeltaService.getChangesSince(board.getId(), since);
+    }
+
+    private long version() {
+        return boardChangeService.getBoardVersion(board.getId());
+    }
+
+    private Card persistCard(String title) {
+        CardRequestDto cardRequest = new CardRequestDto();
+        cardRequest.setTitle(title);
+        Card card = new Card(cardRequest, entityManager.find(Columns.class,
+                columns.get(0).getId()), title);
+        entityManager.persist(card);
+        entityManager.flush();
+        return card;
+    }
+
+    private void removeCard(Card card) {
+        entityManager.remove(entityManager.find(Card.class, card.getId()));
+        entityManager.flush();
+    }
+
+    private void createBoard() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        board = new Board(boardRequest, workspace);
+        ReflectionTestUtils.setField(board, "columnCount", (long) COLUMN_COUNT);
+        entityManager.persist(board);
+
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            AddColumnsRequest columnsRequest = new AddColumnsRequest();
+            ReflectionTestUtils.setField(columnsRequest, "name", "column" + i);
+            Columns column = new Columns(columnsRequest, (long) i, board);
+            entityManager.persist(column);
+            columns.add(column);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.trelloprojects.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardColumnResponseDto;
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.common.rank.LexoRank;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+@Import(BoardSnapshotService.class)
+class BoardSnapshotServiceTest {
+
+    private static final int COLUMN_COUNT = 20;
+    private static final int CARDS_PER_COLUMN = 100;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoardSnapshotService boardSnapshotService;
+
+    @Test
+    void loadSnapshotRunsConstantNumberOfQueries() {
+        Long boardId = createLargeBoard();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        BoardColumnResponseDto snapshot = boardSnapshotService.loadSnapshot(boardId);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(4);
+        assertThat(snapshot.getColumns()).hasSize(COLUMN_COUNT);
+        assertThat(snapshot.getColumns().get(0).getName()).isEqualTo("column0");
+        assertThat(snapshot.getColumns().get(COLUMN_COUNT - 1).getCardList())
+                .hasSize(CARDS_PER_COLUMN);
+        assertThat(snapshot.getColumns().get(0).getCardList().get(0).getTitle())
+                .isEqualTo("card0-0");
+        assertThat(snapshot.getColumns().get(0).getCardList().get(0).getMembers()).hasSize(1);
+    }
+
+    private Long createLargeBoard() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        entityManager.persist(board);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+
+        // 역순으로 저장해서 position/rank 정렬이 실제로 적용되는지 확인한다
+        List<String> ranks = LexoRank.evenlySpaced(CARDS_PER_COLUMN);
+        for (int i = COLUMN_COUNT - 1; i >= 0; i--) {
+            AddColumnsRequest columnsRequest = new AddColumnsRequest();
+            ReflectionTestUtils.setField(columnsRequest, "name", "column" + i);
+            Columns columns = new Columns(columnsRequest, (long) i, board);
+            entityManager.persist(columns);
+
+            for (int j = CARDS_PER_COLUMN - 1; j >= 0; j--) {
+                CardRequestDto cardRequest = new CardRequestDto();
+                cardRequest.setTitle("card" + i + "-" + j);
+                Card card = new Card(cardRequest, columns, ranks.get(j));
+                entityManager.persist(card);
+
+                if (j == 0) {
+                    entityManager.persist(new UserCard(user, card));
+                }
+            }
+        }
+        return board.getId();
+    }
+}
@@ -0,0 +1,154 @@
+package com.example.trelloprojects.board.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.entity.BoardChange;
+import com.example.trelloprojects.board.enums.BoardChangeTarget;
+import com.example.trelloprojects.board.enums.BoardChangeType;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.common.rank.LexoRank;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+@Import(BoardSubtreeDeleter.class)
+class BoardSubtreeDeleterTest {
+
+    private static final int COLUMN_COUNT = 3;
+    private static final int CARDS_PER_COLUMN = 800;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private BoardSubtreeDeleter boardSubtreeDeleter;
+
+    @MockBean
+    private BoardChangeService boardChangeService;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    @Test
+    void deleteBoardRemovesWholeTreeWithBoundedStatements() {
+        Long boardId = createBoard();
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        int chunks = 0;
+        while (boardSubtreeDeleter.deleteBoardCards(boardId).full()) {
+            chunks++;
+        }
+        boardSubtreeDeleter.deleteBoardRows(boardId);
+
+        // 카드 2400 개 = 가득 찬 청크 2 개 + 나머지 1 개, 엔티티는 하나도 읽지 않는다
+        assertThat(chunks).isEqualTo(2);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(25);
+        assertThat(count("Card")).isZero();
+        assertThat(count("Comment")).isZero();
+        assertThat(count("UserCard")).isZero();
+        assertThat(count("Columns")).isZero();
+        assertThat(count("BoardChange")).isZero();
+        assertThat(count("Board")).isZero();
+        assertThat(count("User")).isEqualTo(1);
+    }
+
+    @Test
+    void deleteColumnKeepsOtherColumnsAndShiftsPositions() {
+        Long boardId = createBoard();
+        Long firstColumnId = entityManager.createQuery(
+                        "SELECT c.id FROM Columns c WHERE c.position = 0", Long.class)
+                .getSingleResult();
+        entityManager.flush();
+        entityManager.clear();
+
+        boardSubtreeDeleter.deleteColumnCards(firstColumnId);
+        boardSubtreeDeleter.deleteColumnRow(firstColumnId);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(count("Columns")).isEqualTo(COLUMN_COUNT - 1);
+        assertThat(count("Card")).isEqualTo((long) (COLUMN_COUNT - 1) * CARDS_PER_COLUMN);
+        assertThat(entityManager.createQuery("SELECT c.position FROM Columns c ORDER BY c.position",
+                Long.class).getResultList()).containsExactly(0L, 1L);
+        assertThat(entityManager.find(Board.class, boardId).getColumnCount())
+                .isEqualTo(COLUMN_COUNT - 1);
+    }
+
+    private long count(String entity) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entity + " e", Long.class)
+                .getSingleResult();
+    }
+
+    private Long createBoard() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        // columnCount 는 updatable = false 라 INSERT 전에 넣어야 저장된다
+        ReflectionTestUtils.setField(board, "columnCount", (long) COLUMN_COUNT);
+        entityManager.persist(board);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+
+        CommentRequestDto commentRequest = new CommentRequestDto();
+        ReflectionTestUtils.setField(commentRequest, "content", "comment");
+
+        List<String> ranks = LexoRank.evenlySpaced(CARDS_PER_COLUMN);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            AddColumnsRequest columnsRequest = new AddColumnsRequest();
+            ReflectionTestUtils.setField(columnsRequest, "name", "column" + i);
+            Columns columns = new Columns(columnsRequest, (long) i, board);
+            entityManager.persist(columns);
+
+            for (int j = 0; j < CARDS_PER_COLUMN; j++) {
+                CardRequestDto cardRequest = new CardRequestDto();
+                cardRequest.setTitle("card" + i + "-" + j);
+                Card card = new Card(cardRequest, columns, ranks.get(j));
+                entityManager.persist(card);
+                entityManager.persist(new Comment(commentRequest, user, card));
+                if (j % 10 == 0) {
+                    entityManager.persist(new UserCard(user, card));
+                }
+            }
+        }
+        entityManager.persist(new BoardChange(board.getId(), 1L, BoardChangeTarget.BOARD,
+                board.getId(), BoardChangeType.UPDATED));
+        return board.getId();
+    }
+}
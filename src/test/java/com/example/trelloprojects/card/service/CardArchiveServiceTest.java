@@ -0,0 +1,133 @@
+package com.example.trelloprojects.card.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.card.dto.ArchivedCardPageResponseDto;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.common.rank.LexoRank;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user_card.entity.UserCard;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({CardArchiveService.class, CardRankService.class})
+class CardArchiveServiceTest {
+
+    private static final int CARD_COUNT = 30;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CardArchiveService cardArchiveService;
+
+    @MockBean
+    private BoardChangeService boardChangeService;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    private Board board;
+    private Columns columns;
+    private final List<Long> cardIds = new ArrayList<>();
+
+    @Test
+    void archivedCardsLeaveHotTablesAndCanBeRestored() {
+        createBoard();
+        List<Long> archivedIds = cardIds.subList(0, 25);
+
+        assertThat(cardArchiveService.archiveCards(archivedIds)).isEqualTo(25);
+        entityManager.clear();
+
+        assertThat(count("Card")).isEqualTo(CARD_COUNT - 25);
+        assertThat(count("Comment")).isEqualTo(CARD_COUNT - 25);
+        assertThat(count("UserCard")).isEqualTo(CARD_COUNT - 25);
+        assertThat(count("ArchivedComment")).isEqualTo(25);
+        assertThat(entityManager.find(Columns.class, columns.getId()).getCardCount())
+                .isEqualTo(CARD_COUNT - 25);
+
+        ArchivedCardPageResponseDto first = cardArchiveService.getArchivedCards(board.getId(),
+                null, 20);
+        ArchivedCardPageResponseDto second = cardArchiveService.getArchivedCards(board.getId(),
+                first.getNextCursor(), 20);
+        assertThat(first.getCards()).hasSize(20);
+        assertThat(second.getCards()).hasSize(5);
+        assertThat(second.getNextCursor()).isNull();
+
+        Long restoredId = archivedIds.get(0);
+        cardArchiveService.restoreCard(board.getId(), restoredId, null);
+        entityManager.clear();
+
+        Card restored = entityManager.find(Card.class, restoredId);
+        assertThat(restored.getTitle()).isEqualTo("card0");
+        assertThat(restored.getColumns().getId()).isEqualTo(columns.getId());
+        assertThat(restored.getComments()).extracting(Comment::getContent).containsExactly("comment");
+        assertThat(restored.getUserCards()).hasSize(1);
+        assertThat(count("ArchivedCard")).isEqualTo(24);
+        assertThat(count("ArchivedUserCard")).isEqualTo(24);
+    }
+
+    private long count(String entity) {
+        return entityManager.createQuery("SELECT COUNT(e) FROM " + entity + " e", Long.class)
+                .getSingleResult();
+    }
+
+    private void createBoard() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        board = new Board(boardRequest, workspace);
+        entityManager.persist(board);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+
+        AddColumnsRequest columnsRequest = new AddColumnsRequest();
+        ReflectionTestUtils.setField(columnsRequest, "name", "column");
+        // cardCount/lastCardRank 는 updatable = false 라 INSERT 전에 넣어야 저장된다
+        List<String> ranks = LexoRank.evenlySpaced(CARD_COUNT);
+        columns = new Columns(columnsRequest, 0L, board);
+        ReflectionTestUtils.setField(columns, "cardCount", (long) CARD_COUNT);
+        ReflectionTestUtils.setField(columns, "lastCardRank", ranks.get(CARD_COUNT - 1));
+        entityManager.persist(columns);
+
+        CommentRequestDto commentRequest = new CommentRequestDto();
+        ReflectionTestUtils.setField(commentRequest, "content", "comment");
+
+        for (int i = 0; i < CARD_COUNT; i++) {
+            CardRequestDto cardRequest = new CardRequestDto();
+            cardRequest.setTitle("card" + i);
+            Card card = new Card(cardRequest, columns, ranks.get(i));
+            entityManager.persist(card);
+            entityManager.persist(new Comment(commentRequest, user, card));
+            entityManager.persist(new UserCard(user, card));
+            cardIds.add(card.getId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.trelloprojects.columns.repository;
+
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.repository.BoardRepository;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import com.example.trelloprojects.workspace.repository.WorkspaceRepository;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+// 트랜잭션 두 개를 동시에 열어야 하므로 테스트 자체는 트랜잭션 없이 실행한다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ColumnsRepositoryTest {
+
+    private static final int COLUMN_COUNT = 10;
+
+    @Autowired
+    private ColumnsRepository columnsRepository;
+
+    @Autowired
+    private BoardRepository boardRepository;
+
+    @Autowired
+    private WorkspaceRepository workspaceRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private Long boardA;
+    private Long boardB;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        Workspace workspace = workspaceRepository.save(new Workspace("workspace", "description"));
+        boardA = createBoard(workspace, "A");
+        boardB = createBoard(workspace, "B");
+    }
+
+    @AfterEach
+    void tearDown() {
+        columnsRepository.deleteAllInBatch();
+        boardRepository.deleteAllInBatch();
+        workspaceRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void shiftOnlyTouchesColumnsOfOwningBoard() {
+        int shifted = transactionTemplate.execute(status ->
+                columnsRepository.incrementBelowToPosition(boardA, 0L, 5L));
+
+        assertThat(shifted).isEqualTo(5);
+        assertThat(positions(boardA)).containsExactly(1L, 2L, 3L, 4L, 5L, 5L, 6L, 7L, 8L, 9L);
+        assertThat(positions(boardB)).containsExactlyElementsOf(initialPositions());
+    }
+
+    @Test
+    void reordersOnDifferentBoardsTouchDisjointRows() throws Exception {
+        CountDownLatch boardALocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<Integer> first = executor.submit(() -> transactionTemplate.execute(status -> {
+                int rows = columnsRepository.decrementAboveToPosition(boardA, 9L, 0L);
+                boardALocked.countDown();
+                await(release);
+                return rows;
+            }));
+            assertThat(boardALocked.await(5, SECONDS)).isTrue();
+
+            // 보드 A 트랜잭션이 행 잠금을 쥐고 있어도 보드 B 의 재정렬은 기다리지 않고 끝나야 한다
+            Future<Integer> second = executor.submit(() -> transactionTemplate.execute(status ->
+                    columnsRepository.decrementAboveToPosition(boardB, 9L, 0L)));
+            assertThat(second.get(5, SECONDS)).isEqualTo(COLUMN_COUNT - 1);
+
+            release.countDown();
+            assertThat(first.get(5, SECONDS)).isEqualTo(COLUMN_COUNT - 1);
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+
+        List<Long> expected = List.of(0L, 0L, 1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L);
+        assertThat(positions(boardA)).containsExactlyElementsOf(expected);
+        assertThat(positions(boardB)).containsExactlyElementsOf(expected);
+    }
+
+    private Long createBoard(Workspace workspace, String name) {
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName(name);
+        Board board = boardRepository.save(new Board(boardRequest, workspace));
+
+        for (long position = 0; position < COLUMN_COUNT; position++) {
+            AddColumnsRequest columnsRequest = new AddColumnsRequest();
+            ReflectionTestUtils.setField(columnsRequest, "name", name + position);
+            columnsRepository.save(new Columns(columnsRequest, position, board));
+        }
+        return board.getId();
+    }
+
+    private List<Long> positions(Long boardId) {
+        return columnsRepository.findAllByBoardIdOrderByPositionAsc(boardId).stream()
+                .map(Columns::getPosition)
+                .toList();
+    }
+
+    private List<Long> initialPositions() {
+        return LongStream.range(0, COLUMN_COUNT).boxed().toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.trelloprojects.columns.service.impl;
+
+import static com.example.trelloprojects.columns.service.impl.ColumnsServiceImplTest.createBoard;
+import static com.example.trelloprojects.columns.service.impl.ColumnsServiceImplTest.importRequest;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter;
+import com.example.trelloprojects.card.service.CardRankService;
+import com.example.trelloprojects.card.service.CardService;
+import com.example.trelloprojects.columns.dto.ImportColumnsResponse;
+import com.example.trelloprojects.comment.service.CommentService;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import jakarta.persistence.EntityManager;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+/**
+ * 카드 10 만 장 가져오기. 오래 걸리므로 일반 테스트에서는 빠지고 ./gradlew benchmark 로만 실행된다.
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({ColumnsServiceImpl.class, CardService.class, CardRankService.class,
+        BoardSubtreeDeleter.class})
+class ColumnsImportBenchmark {
+
+    private static final int COLUMN_COUNT = 10;
+    private static final int CARDS_PER_COLUMN = 10_000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ColumnsServiceImpl columnsService;
+
+    @MockBean
+    private BoardChangeService boardChangeService;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    @Test
+    void importHundredThousandCards() {
+        Long boardId = createBoard(entityManager);
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        ImportColumnsResponse response = columnsService.importColumns(boardId,
+                importRequest(COLUMN_COUNT, CARDS_PER_COLUMN));
+        entityManager.flush();
+
+        log.info("import: {} cards in {} ms ({} cards/s, {} statements)",
+                response.getCardCount(), response.getElapsedMillis(),
+                response.getCardsPerSecond(), statistics.getPrepareStatementCount());
+        int cards = COLUMN_COUNT * CARDS_PER_COLUMN;
+        assertThat(response.getCardCount()).isEqualTo(cards);
+        // INSERT 배치와 시퀀스 블록이 각각 100 장 단위이므로 문장 수는 카드 수의 2% 근처에 머문다
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(cards / 100 * 2 + 100);
+        assertThat(entityManager.createQuery("SELECT COUNT(k) FROM Card k", Long.class)
+                .getSingleResult()).isEqualTo(cards);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.trelloprojects.columns.service.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.service.CardRankService;
+import com.example.trelloprojects.card.service.CardService;
+import com.example.trelloprojects.columns.dto.ImportColumnRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsRequest;
+import com.example.trelloprojects.columns.dto.ImportColumnsResponse;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.service.CommentService;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=100",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@Import({ColumnsServiceImpl.class, CardService.class, CardRankService.class,
+        BoardSubtreeDeleter.class})
+class ColumnsServiceImplTest {
+
+    private static final int COLUMN_COUNT = 2;
+    private static final int CARDS_PER_COLUMN = 1000;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ColumnsServiceImpl columnsService;
+
+    @MockBean
+    private BoardChangeService boardChangeService;
+
+    @MockBean
+    private CommentService commentService;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    @Test
+    void importColumnsBatchesInsertsAndResetsColumnStats() {
+        Long boardId = createBoard(entityManager);
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        ImportColumnsResponse response = columnsService.importColumns(boardId,
+                importRequest(COLUMN_COUNT, CARDS_PER_COLUMN));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(response.getColumnCount()).isEqualTo(COLUMN_COUNT);
+        assertThat(response.getCardCount()).isEqualTo(COLUMN_COUNT * CARDS_PER_COLUMN);
+        assertThat(response.getElapsedMillis()).isNotNegative();
+        // 카드 2000 장을 행마다 INSERT 하면 2000 개가 넘는다. 배치(100)와 시퀀스 블록(100) 단위로만 나간다
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(100);
+        assertThat(entityManager.find(Board.class, boardId).getColumnCount())
+                .isEqualTo(COLUMN_COUNT);
+        verify(boardChangeService).boardReloaded(boardId);
+
+        List<Columns> columns = entityManager.createQuery(
+                        "SELECT c FROM Columns c WHERE c.board.id = :boardId ORDER BY c.position",
+                        Columns.class)
+                .setParameter("boardId", boardId)
+                .getResultList();
+        assertThat(columns).extracting(Columns::getName).containsExactly("column0", "column1");
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            Columns column = columns.get(i);
+            List<String> titles = entityManager.createQuery("SELECT k.title FROM Card k"
+                            + " WHERE k.columns.id = :columnId ORDER BY k.rank", String.class)
+                    .setParameter("columnId", column.getId())
+                    .getResultList();
+            String maxRank = entityManager.createQuery("SELECT MAX(k.rank) FROM Card k"
+                            + " WHERE k.columns.id = :columnId", String.class)
+                    .setParameter("columnId", column.getId())
+                    .getSingleResult();
+
+            // rank 순서가 요청에 들어온 순서와 같다
+            List<String> expected = new ArrayList<>(CARDS_PER_COLUMN);
+            for (int j = 0; j < CARDS_PER_COLUMN; j++) {
+                expected.add("card" + i + "-" + j);
+            }
+            assertThat(titles).containsExactlyElementsOf(expected);
+            assertThat(column.getCardCount()).isEqualTo(CARDS_PER_COLUMN);
+            assertThat(column.getLastCardRank()).isEqualTo(maxRank);
+        }
+    }
+
+    static Long createBoard(EntityManager entityManager) {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        entityManager.persist(board);
+        entityManager.flush();
+        entityManager.clear();
+        return board.getId();
+    }
+
+    static ImportColumnsRequest importRequest(int columnCount, int cardsPerColumn) {
+        List<ImportColumnRequest> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            List<CardRequestDto> cards = new ArrayList<>(cardsPerColumn);
+            for (int j = 0; j < cardsPerColumn; j++) {
+                CardRequestDto cardRequest = new CardRequestDto();
+                cardRequest.setTitle("card" + i + "-" + j);
+                cards.add(cardRequest);
+            }
+            ImportColumnRequest column = new ImportColumnRequest();
+            ReflectionTestUtils.setField(column, "name", "column" + i);
+            ReflectionTestUtils.setField(column, "cards", cards);
+            columns.add(column);
+        }
+
+        ImportColumnsRequest request = new ImportColumnsRequest();
+        ReflectionTestUtils.setField(request, "columns", columns);
+        return request;
+    }
+}
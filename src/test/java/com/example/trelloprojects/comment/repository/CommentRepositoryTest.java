@@ -0,0 +1,128 @@
+package com.example.trelloprojects.comment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.dto.CommentCursor;
+import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.dto.CommentResponseDto;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+class CommentRepositoryTest {
+
+    private static final int PAGE_SIZE = 3;
+    private static final LocalDateTime BASE = LocalDateTime.of(2023, 8, 20, 10, 0);
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Long userId;
+
+    @Test
+    void pagesFollowCreationOrderWhenIdsDoNot() {
+        Card card = createCard();
+        // 노드마다 다른 시퀀스 구간에서 id 를 받은 것처럼, id 가 작성 순서와 어긋나게 저장한다
+        // minute 이 같은 댓글끼리는 id 순서로 놓인다 (페이지 경계에 같은 시각이 걸리도록 3, 4 번째를 맞춘다)
+        int[] minutes = {5, 0, 2, 2, 1, 6, 3, 4};
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < minutes.length; i++) {
+            comments.add(persistComment(card, "comment" + i, BASE.plusMinutes(minutes[i])));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        List<String> pages = new ArrayList<>();
+        List<CommentResponseDto> page = commentRepository.findFirstPage(card.getId(),
+                PageRequest.of(0, PAGE_SIZE));
+        while (!page.isEmpty()) {
+            page.forEach(comment -> pages.add(comment.getContent()));
+            CommentCursor cursor = CommentCursor.parse(
+                    CommentCursor.of(page.get(page.size() - 1)).encode());
+            page = commentRepository.findPageAfter(card.getId(), cursor.createdAt(), cursor.id(),
+                    PageRequest.of(0, PAGE_SIZE));
+        }
+
+        assertThat(comments.get(2).getId()).isLessThan(comments.get(3).getId());
+        assertThat(pages).containsExactly("comment1", "comment4", "comment2", "comment3",
+                "comment6", "comment7", "comment0", "comment5");
+    }
+
+    @Test
+    void cursorKeepsMicroseconds() {
+        Card card = createCard();
+        LocalDateTime createdAt = BASE.plusNanos(123_456_000);
+        persistComment(card, "first", createdAt);
+        persistComment(card, "second", createdAt.plusNanos(1_000));
+        entityManager.flush();
+        entityManager.clear();
+
+        CommentResponseDto first = commentRepository.findFirstPage(card.getId(),
+                PageRequest.of(0, 1)).get(0);
+        CommentCursor cursor = CommentCursor.parse(CommentCursor.of(first).encode());
+
+        assertThat(cursor.createdAt()).isEqualTo(createdAt);
+        assertThat(commentRepository.findPageAfter(card.getId(), cursor.createdAt(), cursor.id(),
+                PageRequest.of(0, PAGE_SIZE))).extracting(CommentResponseDto::getContent)
+                .containsExactly("second");
+    }
+
+    private Comment persistComment(Card card, String content, LocalDateTime createdAt) {
+        CommentRequestDto request = new CommentRequestDto();
+        ReflectionTestUtils.setField(request, "content", content);
+        Comment comment = new Comment(request, entityManager.find(User.class, userId), card);
+        comment.setCreatedAt(createdAt);
+        entityManager.persist(comment);
+        return comment;
+    }
+
+    private Card createCard() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        ReflectionTestUtils.setField(board, "columnCount", 1L);
+        entityManager.persist(board);
+
+        AddColumnsRequest columnsRequest = new AddColumnsRequest();
+        ReflectionTestUtils.setField(columnsRequest, "name", "column");
+        Columns columns = new Columns(columnsRequest, 0L, board);
+        ReflectionTestUtils.setField(columns, "cardCount", 1L);
+        entityManager.persist(columns);
+
+        CardRequestDto cardRequest = new CardRequestDto();
+        cardRequest.setTitle("card");
+        Card card = new Card(cardRequest, columns, "n");
+        entityManager.persist(card);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+        userId = user.getId();
+        return card;
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.trelloprojects.common.bloom;
+
+import static com.example.trelloprojects.common.bloom.BloomFilterTest.randomJtis;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * 실행 시간에 의존하므로 일반 테스트에서는 빠지고 ./gradlew benchmark 로만 실행된다.
+ */
+@Slf4j
+@Tag("benchmark")
+class BloomFilterBenchmark {
+
+    private static final int INSERTIONS = 100_000;
+
+    // 요청마다 타는 경로(대부분 폐기되지 않은 jti)의 평균 조회 시간을 잰다
+    @Test
+    void lookupStaysInMicroseconds() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.001);
+        randomJtis(INSERTIONS).forEach(filter::put);
+        List<String> probes = randomJtis(INSERTIONS);
+
+        int hits = 0;
+        for (int round = 0; round < 5; round++) {
+            for (String probe : probes) {
+                hits += filter.mightContain(probe) ? 1 : 0;
+            }
+        }
+
+        int rounds = 10;
+        long started = System.nanoTime();
+        for (int round = 0; round < rounds; round++) {
+            for (String probe : probes) {
+                hits += filter.mightContain(probe) ? 1 : 0;
+            }
+        }
+        double nanosPerLookup = (double) (System.nanoTime() - started) / (rounds * INSERTIONS);
+
+        log.info("bloom lookup: {} ns/op ({} hits)", String.format("%.1f", nanosPerLookup), hits);
+        assertThat(nanosPerLookup).isLessThan(1_000);
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.trelloprojects.common.bloom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 100_000;
+
+    @Test
+    void neverMissesInsertedValues() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.001);
+        List<String> jtis = randomJtis(INSERTIONS);
+        jtis.forEach(filter::put);
+
+        assertThat(jtis).allMatch(filter::mightContain);
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, 0.001);
+        randomJtis(INSERTIONS).forEach(filter::put);
+
+        long falsePositives = randomJtis(INSERTIONS).stream().filter(filter::mightContain).count();
+
+        assertThat((double) falsePositives / INSERTIONS).isLessThan(0.003);
+    }
+
+    static List<String> randomJtis(int size) {
+        List<String> jtis = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            jtis.add(UUID.randomUUID().toString());
+        }
+        return jtis;
+    }
+}
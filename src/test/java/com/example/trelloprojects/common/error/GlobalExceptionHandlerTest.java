@@ -0,0 +1,36 @@
+package com.example.trelloprojects.common.error;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+class GlobalExceptionHandlerTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler(meterRegistry);
+
+    @Test
+    void businessErrorsAreCountedPerErrorCode() {
+        ResponseEntity<ErrorResponseDto> response = handler.handleBusinessException(
+                new BusinessException(ErrorCode.NOT_WORKSPACE_MEMBER));
+        handler.handleBusinessException(new BusinessException(ErrorCode.NOT_WORKSPACE_MEMBER));
+        handler.handleBusinessException(new BusinessException(ErrorCode.CARD_NOT_FOUND));
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN);
+        assertThat(response.getBody().getErrorCode()).isEqualTo("M003");
+        assertThat(count(ErrorCode.NOT_WORKSPACE_MEMBER)).isEqualTo(2);
+        assertThat(count(ErrorCode.CARD_NOT_FOUND)).isEqualTo(1);
+        assertThat(meterRegistry.find("business.errors").counters()).hasSize(2);
+    }
+
+    private double count(ErrorCode errorCode) {
+        return meterRegistry.get("business.errors")
+                .tag("code", errorCode.getCode())
+                .tag("error", errorCode.name())
+                .counter()
+                .count();
+    }
+}
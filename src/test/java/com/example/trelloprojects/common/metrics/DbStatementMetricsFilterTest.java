@@ -0,0 +1,88 @@
+package com.example.trelloprojects.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.common.config.MetricsConfig;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({MetricsConfig.class, StatementCounter.class, DbStatementMetricsFilter.class,
+        SimpleMeterRegistry.class})
+class DbStatementMetricsFilterTest {
+
+    private static final String PATTERN = "/api/workspaces/{workspaceId}";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private DbStatementMetricsFilter dbStatementMetricsFilter;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @Test
+    void recordsStatementsPerRequestAndUriPattern() throws Exception {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 요청 밖에서 실행한 쿼리는 세지 않는다
+        countWorkspaces();
+        doFilter(2);
+        doFilter(0);
+
+        DistributionSummary summary = meterRegistry.get("http.server.db.statements")
+                .tag("method", "GET")
+                .tag("uri", PATTERN)
+                .summary();
+        assertThat(summary.count()).isEqualTo(2);
+        assertThat(summary.totalAmount()).isEqualTo(2);
+        assertThat(summary.max()).isEqualTo(2);
+    }
+
+    @Test
+    void unmatchedRequestIsTaggedUnknown() throws Exception {
+        dbStatementMetricsFilter.doFilter(new MockHttpServletRequest("GET", "/missing"),
+                new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(meterRegistry.get("http.server.db.statements")
+                .tag("uri", "UNKNOWN")
+                .summary()
+                .count()).isEqualTo(1);
+    }
+
+    private void doFilter(int queries) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/workspaces/1");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, PATTERN);
+        dbStatementMetricsFilter.doFilter(request, new MockHttpServletResponse(),
+                new MockFilterChain(new HttpServlet() {
+                    @Override
+                    protected void service(HttpServletRequest req, HttpServletResponse resp) {
+                        for (int i = 0; i < queries; i++) {
+                            countWorkspaces();
+                        }
+                    }
+                }));
+    }
+
+    private long countWorkspaces() {
+        return entityManager.createQuery("SELECT COUNT(w) FROM Workspace w", Long.class)
+                .getSingleResult();
+    }
+}
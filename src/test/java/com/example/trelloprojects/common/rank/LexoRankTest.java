@@ -0,0 +1,54 @@
+package com.example.trelloprojects.common.rank;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class LexoRankTest {
+
+    @Test
+    void betweenStaysStrictlyBetweenNeighbours() {
+        List<String> ranks = new ArrayList<>(List.of(LexoRank.between(null, null)));
+
+        // 항상 맨 앞 두 키 사이에 끼워 넣어서 키가 길어지는 최악의 경우를 만든다
+        for (int i = 0; i < 200; i++) {
+            String before = i % 2 == 0 ? null : ranks.get(0);
+            String after = i % 2 == 0 ? ranks.get(0) : ranks.get(1);
+            String rank = LexoRank.between(before, after);
+
+            if (before != null) {
+                assertThat(rank).isGreaterThan(before);
+            }
+            assertThat(rank).isLessThan(after).doesNotEndWith("0");
+            ranks.add(before == null ? 0 : 1, rank);
+        }
+
+        assertThat(ranks).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    void appendAfterRebalanceKeepsKeyLength() {
+        List<String> ranks = LexoRank.evenlySpaced(100);
+        String rank = ranks.get(ranks.size() - 1);
+        for (int i = 0; i < 1000; i++) {
+            String next = LexoRank.between(rank, null);
+            if (rank != null) {
+                assertThat(next).isGreaterThan(rank);
+            }
+            rank = next;
+        }
+
+        assertThat(rank.length()).isLessThanOrEqualTo(ranks.get(0).length());
+    }
+
+    @Test
+    void evenlySpacedKeysAreSortedAndLeaveRoom() {
+        List<String> ranks = LexoRank.evenlySpaced(5000);
+
+        assertThat(ranks).hasSize(5000).isSorted().doesNotHaveDuplicates();
+        assertThat(LexoRank.between(ranks.get(10), ranks.get(11)).length())
+                .isLessThanOrEqualTo(ranks.get(10).length() + 1);
+    }
+}
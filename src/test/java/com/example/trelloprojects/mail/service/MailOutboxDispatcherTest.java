@@ -0,0 +1,93 @@
+package com.example.trelloprojects.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.mail.FakeSmtpServer;
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.enums.MailStatus;
+import com.example.trelloprojects.mail.repository.MailOutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Session;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Properties;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 발송 결과는 발송 스레드의 별도 트랜잭션에서 저장되므로 테스트 자체는 트랜잭션 없이 실행한다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MailOutboxDispatcherTest {
+
+    private static final int MAX_ATTEMPTS = 3;
+
+    @Autowired
+    private MailOutboxRepository mailOutboxRepository;
+
+    private FakeSmtpServer smtpServer;
+    private PooledMailSender mailSender;
+    private SimpleMeterRegistry meterRegistry;
+    private MailOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        mailSender = new PooledMailSender(Session.getInstance(new Properties()), "localhost",
+                smtpServer.getPort(), null, null, 2, Duration.ofSeconds(30));
+
+        meterRegistry = new SimpleMeterRegistry();
+        // 백오프 0 으로 두어 실패한 메일이 다음 dispatch 에서 바로 다시 나가게 한다
+        dispatcher = new MailOutboxDispatcher(mailOutboxRepository, mailSender, meterRegistry,
+                10, MAX_ATTEMPTS, Duration.ZERO, Duration.ZERO, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        mailSender.close();
+        smtpServer.close();
+        mailOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void sendsPendingMailOnce() {
+        mailOutboxRepository.save(new MailOutbox("a@example.com", "invite", "<p>a</p>"));
+        mailOutboxRepository.save(new MailOutbox("b@example.com", "invite", "<p>b</p>"));
+
+        assertThat(dispatcher.dispatch()).isEqualTo(2);
+        assertThat(dispatcher.dispatch()).isZero();
+
+        assertThat(smtpServer.getRecipients())
+                .containsExactlyInAnyOrder("a@example.com", "b@example.com");
+        assertThat(mailOutboxRepository.findAll())
+                .allSatisfy(mail -> assertThat(mail.getStatus()).isEqualTo(MailStatus.SENT));
+        assertThat(meterRegistry.get("mail.outbox.depth").tag("status", "pending").gauge().value())
+                .isZero();
+    }
+
+    @Test
+    void retriesThenMovesToDeadLetter() {
+        mailOutboxRepository.save(new MailOutbox("ok@example.com", "invite", "<p>ok</p>"));
+        mailOutboxRepository.save(new MailOutbox("reject@example.com", "invite", "<p>no</p>"));
+
+        for (int i = 0; i < MAX_ATTEMPTS + 1; i++) {
+            dispatcher.dispatch();
+        }
+
+        Map<String, MailOutbox> mails = mailOutboxRepository.findAll().stream()
+                .collect(Collectors.toMap(MailOutbox::getRecipient, Function.identity()));
+        assertThat(mails.get("ok@example.com").getStatus()).isEqualTo(MailStatus.SENT);
+        assertThat(mails.get("reject@example.com").getStatus()).isEqualTo(MailStatus.DEAD);
+        assertThat(mails.get("reject@example.com").getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(meterRegistry.get("mail.outbox.retried").counter().count())
+                .isEqualTo(MAX_ATTEMPTS - 1);
+        assertThat(meterRegistry.get("mail.outbox.depth").tag("status", "dead").gauge().value())
+                .isEqualTo(1);
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.trelloprojects.mail.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.mail.FakeSmtpServer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+@Slf4j
+class PooledMailSenderTest {
+
+    private static final int INVITATIONS = 1000;
+    private static final int POOL_SIZE = 2;
+
+    private FakeSmtpServer smtpServer;
+    private PooledMailSender pooledMailSender;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        smtpServer = new FakeSmtpServer();
+        pooledMailSender = new PooledMailSender(Session.getInstance(new Properties()),
+                "localhost", smtpServer.getPort(), null, null, POOL_SIZE, Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        pooledMailSender.close();
+        smtpServer.close();
+    }
+
+    @Test
+    void reusesPooledConnectionsAcrossBulkSends() throws Exception {
+        pooledMailSender.sendAll(invitations(10, pooledMailSender::createMimeMessage));
+        pooledMailSender.sendAll(invitations(10, pooledMailSender::createMimeMessage));
+
+        assertThat(smtpServer.getRecipients()).hasSize(20);
+        assertThat(smtpServer.getConnectionCount()).isLessThanOrEqualTo(POOL_SIZE);
+    }
+
+    @Test
+    void reportsRejectedRecipientWithoutFailingTheRest() throws Exception {
+        List<MimeMessage> messages = invitations(4, pooledMailSender::createMimeMessage);
+        messages.set(2, invitation(pooledMailSender.createMimeMessage(), "reject@example.com"));
+
+        List<MessagingException> failures = pooledMailSender.sendAll(messages);
+
+        assertThat(failures.get(2)).isNotNull();
+        assertThat(failures.stream().filter(Objects::nonNull)).hasSize(1);
+        assertThat(smtpServer.getRecipients()).hasSize(3);
+    }
+
+    // 초대 메일 1000 통을 메일마다 새 연결로 보낼 때와 풀에서 나눠 보낼 때의 처리량을 비교한다
+    @Test
+    void bulkInvitationThroughput() throws Exception {
+        JavaMailSenderImpl perMessageSender = new JavaMailSenderImpl();
+        perMessageSender.setHost("localhost");
+        perMessageSender.setPort(smtpServer.getPort());
+
+        List<MimeMessage> single = invitations(INVITATIONS, perMessageSender::createMimeMessage);
+        long started = System.nanoTime();
+        for (MimeMessage message : single) {
+            perMessageSender.send(message);
+        }
+        double perMessageRate = rate(started);
+
+        List<MimeMessage> pooled = invitations(INVITATIONS, pooledMailSender::createMimeMessage);
+        started = System.nanoTime();
+        List<MessagingException> failures = pooledMailSender.sendAll(pooled);
+        double pooledRate = rate(started);
+
+        log.info("invitations: per-message {} msg/s, pooled {} msg/s",
+                Math.round(perMessageRate), Math.round(pooledRate));
+        assertThat(failures).containsOnlyNulls();
+        assertThat(smtpServer.getRecipients()).hasSize(INVITATIONS * 2);
+        assertThat(smtpServer.getConnectionCount()).isEqualTo(INVITATIONS + POOL_SIZE);
+    }
+
+    private static double rate(long started) {
+        return INVITATIONS / ((System.nanoTime() - started) / 1_000_000_000.0);
+    }
+
+    private static List<MimeMessage> invitations(int count, Supplier<MimeMessage> factory)
+            throws MessagingException {
+        List<MimeMessage> messages = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            messages.add(invitation(factory.get(), "invitee" + i + "@example.com"));
+        }
+        return messages;
+    }
+
+    private static MimeMessage invitation(MimeMessage message, String to)
+            throws MessagingException {
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+        helper.setFrom("noreply@example.com");
+        helper.setTo(to);
+        helper.setSubject("워크스페이스 초대 메일");
+        helper.setText("<p>워크스페이스에 초대되었습니다.</p>", true);
+        return message;
+    }
+}
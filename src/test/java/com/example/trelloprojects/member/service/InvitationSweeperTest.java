@@ -0,0 +1,91 @@
+package com.example.trelloprojects.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.member.entity.Invitation;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({InvitationSweeper.class, InvitationExpiryBackfill.class})
+class InvitationSweeperTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private InvitationSweeper invitationSweeper;
+
+    @Autowired
+    private InvitationExpiryBackfill invitationExpiryBackfill;
+
+    private User inviter;
+    private Workspace workspace;
+
+    @BeforeEach
+    void setUp() {
+        workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "inviter");
+        ReflectionTestUtils.setField(userRequest, "email", "inviter@test.com");
+        inviter = new User(userRequest, "password");
+        entityManager.persist(inviter);
+    }
+
+    @Test
+    void sweepDeletesAcceptedAndExpiredOnly() {
+        LocalDateTime now = LocalDateTime.now();
+        persistInvitation("pending", now.plusDays(1));
+        persistInvitation("expired", now.minusMinutes(1));
+        persistInvitation("accepted", now.plusDays(1)).markAsAccepted();
+        entityManager.flush();
+        entityManager.clear();
+
+        invitationSweeper.sweep();
+        entityManager.clear();
+
+        assertThat(entityManager.createQuery("SELECT i.inviteCode FROM Invitation i", String.class)
+                .getResultList()).containsExactly("pending");
+    }
+
+    @Test
+    void backfillGivesLegacyInvitationsAnExpiryAndSweepKeepsThem() {
+        persistInvitation("legacy", null);
+        persistInvitation("dated", LocalDateTime.now().plusHours(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        invitationExpiryBackfill.run(null);
+        invitationSweeper.sweep();
+        entityManager.clear();
+
+        // invitation.ttl 기본값 7일
+        assertThat(expiresAt("legacy")).isAfter(LocalDateTime.now().plusDays(6));
+        assertThat(expiresAt("dated")).isBefore(LocalDateTime.now().plusDays(1));
+    }
+
+    private LocalDateTime expiresAt(String inviteCode) {
+        return entityManager.createQuery("SELECT i.expiresAt FROM Invitation i"
+                        + " WHERE i.inviteCode = :inviteCode", LocalDateTime.class)
+                .setParameter("inviteCode", inviteCode)
+                .getSingleResult();
+    }
+
+    private Invitation persistInvitation(String inviteCode, LocalDateTime expiresAt) {
+        Invitation invitation = new Invitation(inviter, workspace, inviteCode + "@test.com",
+                inviteCode, expiresAt);
+        entityManager.persist(invitation);
+        return invitation;
+    }
+}
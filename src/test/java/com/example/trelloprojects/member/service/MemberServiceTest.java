@@ -0,0 +1,116 @@
+package com.example.trelloprojects.member.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.mail.entity.MailOutbox;
+import com.example.trelloprojects.mail.service.MailOutboxService;
+import com.example.trelloprojects.member.cache.MembershipCache;
+import com.example.trelloprojects.member.dto.BulkInviteMemberRequestDto;
+import com.example.trelloprojects.member.dto.BulkInviteMemberResponseDto;
+import com.example.trelloprojects.member.entity.Invitation;
+import com.example.trelloprojects.member.entity.UserWorkspace;
+import com.example.trelloprojects.member.enums.InvitationStatus;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.access.WorkspaceAccessResolver;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({MemberService.class, MailOutboxService.class, MembershipCache.class,
+        WorkspaceAccessResolver.class, SimpleMeterRegistry.class})
+class MemberServiceTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private MemberService memberService;
+
+    @Test
+    void inviteMembersFoldsCaseAndSkipsMembersAndPendingInvitations() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+        User inviter = persistUser("inviter");
+        User joined = persistUser("joined");
+        entityManager.persist(new UserWorkspace(inviter, workspace));
+        entityManager.persist(new UserWorkspace(joined, workspace));
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(new Invitation(inviter, workspace, "Pending@Test.com", "pending",
+                now.plusDays(1)));
+        entityManager.persist(new Invitation(inviter, workspace, "expired@test.com", "expired",
+                now.minusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        BulkInviteMemberRequestDto request = new BulkInviteMemberRequestDto();
+        request.setInviterId(inviter.getId());
+        request.setInviteeEmails(List.of("New@Test.com", " new@test.com ", "NEW@TEST.COM",
+                "JOINED@test.com", "pending@TEST.com", "Expired@Test.com"));
+
+        BulkInviteMemberResponseDto response = memberService.inviteMembers(workspace.getId(),
+                request);
+        entityManager.flush();
+        entityManager.clear();
+
+        // 처음 입력된 표기만 남고, 기존 멤버/대기 중 초대는 표기가 달라도 건너뛴다
+        assertThat(response.getInvited()).containsExactly("New@Test.com", "Expired@Test.com");
+        assertThat(response.getSkipped()).containsExactly("JOINED@test.com", "pending@TEST.com");
+        assertThat(entityManager.createQuery("SELECT i.inviteeEmail FROM Invitation i"
+                        + " WHERE i.inviteCode NOT IN ('pending', 'expired')", String.class)
+                .getResultList()).containsExactlyInAnyOrder("New@Test.com", "Expired@Test.com");
+        assertThat(entityManager.createQuery("SELECT m FROM MailOutbox m", MailOutbox.class)
+                .getResultList()).extracting(MailOutbox::getRecipient)
+                .containsExactlyInAnyOrder("New@Test.com", "Expired@Test.com");
+    }
+
+    @Test
+    void joinWorkspaceRefusesExpiredInvitation() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+        User inviter = persistUser("inviter");
+        User invitee = persistUser("invitee");
+        LocalDateTime now = LocalDateTime.now();
+        entityManager.persist(new Invitation(inviter, workspace, "invitee@test.com", "expired",
+                now.minusMinutes(1)));
+        entityManager.persist(new Invitation(inviter, workspace, "invitee@test.com", "valid",
+                now.plusDays(1)));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThatThrownBy(() -> memberService.joinWorkspace(workspace.getId(), "expired", invitee))
+                .isInstanceOfSatisfying(BusinessException.class, e ->
+                        assertThat(e.getErrorCode()).isEqualTo(ErrorCode.INVALID_INVITE_CODE));
+
+        memberService.joinWorkspace(workspace.getId(), "valid", invitee);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.createQuery("SELECT i.status FROM Invitation i"
+                        + " WHERE i.inviteCode = 'valid'", InvitationStatus.class)
+                .getSingleResult()).isEqualTo(InvitationStatus.ACCEPTED);
+        // 수락한 코드는 다시 쓸 수 없다
+        assertThatThrownBy(() -> memberService.joinWorkspace(workspace.getId(), "valid", invitee))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    private User persistUser(String username) {
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", username);
+        ReflectionTestUtils.setField(userRequest, "email", username + "@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+        return user;
+    }
+}
@@ -0,0 +1,133 @@
+package com.example.trelloprojects.user.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.user.cache.UserPrincipalCache;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.dto.CheckPasswordRequest;
+import com.example.trelloprojects.user.dto.UpdatePasswordRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.user.repository.UserRepository;
+import com.example.trelloprojects.user.service.TokenRevocationService;
+import com.example.trelloprojects.user.service.UserService;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+// 캐시 무효화가 커밋 이후에 일어나는지 보려면 서비스 트랜잭션이 실제로 커밋되어야 한다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({TokenProvider.class, JwtProperties.class, UserPrincipalCache.class,
+        TokenRevocationService.class, UserService.class, BCryptPasswordEncoder.class,
+        SimpleMeterRegistry.class})
+class TokenProviderTest {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private JwtProperties jwtProperties;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private AuthenticationConfiguration authenticationConfiguration;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        jwtProperties.setIssuer("test");
+        jwtProperties.setSecretKey("trelloProjectTestKey");
+
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        user = userRepository.save(new User(userRequest, passwordEncoder.encode(PASSWORD)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    void passwordChangeRefusesEarlierTokensButNotNewOnes() {
+        String earlier = issuedMinuteAgo(false);
+        String legacy = issuedMinuteAgo(true);
+        // 두 토큰 모두 통과하면서 사용자가 캐시에 들어간다
+        assertThat(authenticate(earlier)).isNotNull();
+        assertThat(authenticate(legacy)).isNotNull();
+
+        UpdatePasswordRequest request = new UpdatePasswordRequest();
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        ReflectionTestUtils.setField(request, "newPassword", "new-password");
+        userService.updatePassword(request, new UserDetailsImpl(user));
+
+        assertThat(authenticate(earlier)).isNull();
+        assertThat(authenticate(legacy)).isNull();
+        String issuedAfter = tokenProvider.generateToken(user, Duration.ofHours(1))
+                .substring(TokenProvider.BEARER_PREFIX.length());
+        assertThat(authenticate(issuedAfter)).isNotNull();
+    }
+
+    @Test
+    void withdrawRefusesEarlierTokens() {
+        String earlier = issuedMinuteAgo(false);
+        assertThat(authenticate(earlier)).isNotNull();
+
+        CheckPasswordRequest request = new CheckPasswordRequest();
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        userService.withDraw(request, new UserDetailsImpl(user));
+
+        assertThat(authenticate(earlier)).isNull();
+    }
+
+    private Authentication authenticate(String token) {
+        Claims claims = tokenProvider.parseClaims(token);
+        return claims == null ? null : tokenProvider.getAuthentication(token, claims);
+    }
+
+    // legacy 는 id 클레임과 jti 가 없던 이전 형식의 토큰
+    private String issuedMinuteAgo(boolean legacy) {
+        Date issuedAt = new Date(System.currentTimeMillis() - Duration.ofMinutes(1).toMillis());
+        JwtBuilder builder = Jwts.builder()
+                .setIssuer(jwtProperties.getIssuer())
+                .setIssuedAt(issuedAt)
+                .setExpiration(new Date(issuedAt.getTime() + Duration.ofHours(1).toMillis()))
+                .setSubject(user.getEmail());
+        if (!legacy) {
+            builder.setId(UUID.randomUUID().toString()).claim("id", user.getId());
+        }
+        return builder.signWith(SignatureAlgorithm.HS256, jwtProperties.getSecretKey()).compact();
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.trelloprojects.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.ArchivedComment;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.card.repository.ArchivedCardRepository;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.user.cache.UserPrincipalCache;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.dto.CheckPasswordRequest;
+import com.example.trelloprojects.user.dto.LoginRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.user.security.JwtProperties;
+import com.example.trelloprojects.user.security.TokenProvider;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({UserService.class, TokenProvider.class, JwtProperties.class, UserPrincipalCache.class,
+        TokenRevocationService.class, BCryptPasswordEncoder.class, SimpleMeterRegistry.class})
+class UserServiceTest {
+
+    private static final String PASSWORD = "password";
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private ArchivedCardRepository archivedCardRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private AuthenticationConfiguration authenticationConfiguration;
+
+    private User author;
+    private Card commented;
+    private Card untouched;
+    private Long archivedCommentId;
+
+    @BeforeEach
+    void setUp() {
+        author = persistUser("author");
+        User other = persistUser("other");
+        Columns columns = createColumn();
+
+        commented = persistCard(columns, "commented");
+        untouched = persistCard(columns, "untouched");
+        Card archived = persistCard(columns, "archived");
+        persistComment(author, commented);
+        persistComment(other, untouched);
+        archivedCommentId = persistComment(author, archived).getId();
+        entityManager.flush();
+
+        // CardArchiveService 처럼 보관함으로 복사한 뒤 원본을 지운다
+        archivedCardRepository.copyToArchive(List.of(archived.getId()));
+        entityManager.createQuery("DELETE FROM Comment m WHERE m.card.id = :cardId")
+                .setParameter("cardId", archived.getId())
+                .executeUpdate();
+        entityManager.createQuery("DELETE FROM Card c WHERE c.id = :cardId")
+                .setParameter("cardId", archived.getId())
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    void withdrawRenamesAuthorInCommentsAndArchiveAndBumpsCardVersion() {
+        withdraw();
+
+        assertThat(commentAuthors(commented)).containsExactly(Comment.WITHDRAWN_AUTHOR);
+        assertThat(commentAuthors(untouched)).containsExactly("other");
+        assertThat(entityManager.find(ArchivedComment.class, archivedCommentId).getUsername())
+                .isEqualTo(Comment.WITHDRAWN_AUTHOR);
+        assertThat(changeVersion(commented)).isEqualTo(1L);
+        assertThat(changeVersion(untouched)).isZero();
+    }
+
+    @Test
+    void activateRestoresAuthorName() {
+        withdraw();
+
+        LoginRequest request = new LoginRequest();
+        ReflectionTestUtils.setField(request, "email", author.getEmail());
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        userService.activate(request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(commentAuthors(commented)).containsExactly("author");
+        assertThat(entityManager.find(ArchivedComment.class, archivedCommentId).getUsername())
+                .isEqualTo("author");
+        assertThat(changeVersion(commented)).isEqualTo(2L);
+    }
+
+    private void withdraw() {
+        CheckPasswordRequest request = new CheckPasswordRequest();
+        ReflectionTestUtils.setField(request, "password", PASSWORD);
+        userService.withDraw(request, new UserDetailsImpl(author));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private List<String> commentAuthors(Card card) {
+        return entityManager.createQuery("SELECT m.username FROM Comment m WHERE m.card.id = :cardId",
+                        String.class)
+                .setParameter("cardId", card.getId())
+                .getResultList();
+    }
+
+    private long changeVersion(Card card) {
+        return entityManager.find(Card.class, card.getId()).getChangeVersion();
+    }
+
+    private User persistUser(String username) {
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", username);
+        ReflectionTestUtils.setField(userRequest, "email", username + "@test.com");
+        User user = new User(userRequest, passwordEncoder.encode(PASSWORD));
+        entityManager.persist(user);
+        return user;
+    }
+
+    private Columns createColumn() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        ReflectionTestUtils.setField(board, "columnCount", 1L);
+        entityManager.persist(board);
+
+        AddColumnsRequest columnsRequest = new AddColumnsRequest();
+        ReflectionTestUtils.setField(columnsRequest, "name", "column");
+        Columns columns = new Columns(columnsRequest, 0L, board);
+        entityManager.persist(columns);
+        return columns;
+    }
+
+    private Card persistCard(Columns columns, String title) {
+        CardRequestDto cardRequest = new CardRequestDto();
+        cardRequest.setTitle(title);
+        Card card = new Card(cardRequest, columns, title);
+        entityManager.persist(card);
+        return card;
+    }
+
+    private Comment persistComment(User user, Card card) {
+        CommentRequestDto commentRequest = new CommentRequestDto();
+        ReflectionTestUtils.setField(commentRequest, "content", "comment");
+        Comment comment = new Comment(commentRequest, user, card);
+        entityManager.persist(comment);
+        return comment;
+    }
+}
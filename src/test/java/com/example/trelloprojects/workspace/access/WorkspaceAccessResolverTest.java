@@ -0,0 +1,116 @@
+package com.example.trelloprojects.workspace.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.member.cache.MembershipCache;
+import com.example.trelloprojects.member.entity.UserWorkspace;
+import com.example.trelloprojects.member.enums.MemberRole;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true"
+})
+@Import({WorkspaceAccessResolver.class, MembershipCache.class, SimpleMeterRegistry.class})
+class WorkspaceAccessResolverTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WorkspaceAccessResolver workspaceAccessResolver;
+
+    @Autowired
+    private MembershipCache membershipCache;
+
+    private Statistics statistics;
+    private Long workspaceId;
+    private Long adminId;
+    private Long memberId;
+    private Long outsiderId;
+
+    @BeforeEach
+    void setUp() {
+        Workspace workspace = new Workspace("workspace", "description");
+        entityManager.persist(workspace);
+        workspaceId = workspace.getId();
+        adminId = persistUser("admin", workspace, true);
+        memberId = persistUser("member", workspace, false);
+        outsiderId = persistUser("outsider", null, false);
+        entityManager.flush();
+        entityManager.clear();
+
+        RequestContextHolder.setRequestAttributes(
+                new ServletRequestAttributes(new MockHttpServletRequest()));
+        statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void resolvesOncePerRequestAndWritesThroughToCache() {
+        WorkspaceAccess first = workspaceAccessResolver.resolve(workspaceId, memberId);
+        WorkspaceAccess second = workspaceAccessResolver.resolve(workspaceId, memberId);
+
+        assertThat(second).isSameAs(first);
+        assertThat(first.getRole()).isEqualTo(MemberRole.MEMBER);
+        assertThat(first.requireActive().getId()).isEqualTo(workspaceId);
+        assertThat(membershipCache.get(memberId, workspaceId)).isEqualTo(MemberRole.MEMBER);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void resolvesRolePerUser() {
+        assertThat(workspaceAccessResolver.resolve(workspaceId, adminId).isAdmin()).isTrue();
+        assertThat(workspaceAccessResolver.resolve(workspaceId, outsiderId).getRole())
+                .isEqualTo(MemberRole.NONE);
+        // 멤버가 아니라는 결과도 캐시되므로 이후 권한 검사는 쿼리 없이 끝난다
+        statistics.clear();
+        assertThat(membershipCache.get(outsiderId, workspaceId)).isEqualTo(MemberRole.NONE);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    void missingWorkspaceIsNotFound() {
+        WorkspaceAccess access = workspaceAccessResolver.resolve(workspaceId + 1, memberId);
+
+        assertThat(access.getWorkspace()).isNull();
+        assertThat(access).isSameAs(WorkspaceAccess.notFound());
+    }
+
+    private Long persistUser(String username, Workspace workspace, boolean admin) {
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", username);
+        ReflectionTestUtils.setField(userRequest, "email", username + "@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+        if (workspace != null) {
+            UserWorkspace userWorkspace = new UserWorkspace(user, workspace);
+            userWorkspace.updateAdminRole(admin);
+            entityManager.persist(userWorkspace);
+        }
+        return user.getId();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.trelloprojects.workspace.access;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.comment.dto.CommentRequestDto;
+import com.example.trelloprojects.comment.entity.Comment;
+import com.example.trelloprojects.common.error.BusinessException;
+import com.example.trelloprojects.common.error.ErrorCode;
+import com.example.trelloprojects.member.cache.MembershipCache;
+import com.example.trelloprojects.member.entity.UserWorkspace;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.user.entity.UserDetailsImpl;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.globally_quoted_identifiers=true")
+@Import({WorkspaceGuard.class, WorkspaceHierarchyIndex.class, MembershipCache.class,
+        SimpleMeterRegistry.class})
+class WorkspaceGuardTest {
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WorkspaceGuard workspaceGuard;
+
+    @Autowired
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    private Workspace workspace;
+    private Workspace otherWorkspace;
+    private UserDetailsImpl member;
+    private UserDetailsImpl outsider;
+    private Long cardId;
+    private Long commentId;
+
+    @BeforeEach
+    void setUp() {
+        workspace = persistWorkspace("workspace");
+        otherWorkspace = persistWorkspace("other");
+        member = persistMember("member", workspace);
+        outsider = persistMember("outsider", otherWorkspace);
+
+        BoardRequestDto boardRequest = new BoardRequestDto();
+        boardRequest.setName("board");
+        Board board = new Board(boardRequest, workspace);
+        ReflectionTestUtils.setField(board, "columnCount", 1L);
+        entityManager.persist(board);
+
+        AddColumnsRequest columnsRequest = new AddColumnsRequest();
+        ReflectionTestUtils.setField(columnsRequest, "name", "column");
+        Columns columns = new Columns(columnsRequest, 0L, board);
+        entityManager.persist(columns);
+
+        CardRequestDto cardRequest = new CardRequestDto();
+        cardRequest.setTitle("card");
+        Card card = new Card(cardRequest, columns, "n");
+        entityManager.persist(card);
+        cardId = card.getId();
+
+        CommentRequestDto commentRequest = new CommentRequestDto();
+        ReflectionTestUtils.setField(commentRequest, "content", "comment");
+        Comment comment = new Comment(commentRequest, member.getUser(), card);
+        entityManager.persist(comment);
+        commentId = comment.getId();
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void commentResolvesToWorkspaceOfItsCard() {
+        assertThat(workspaceHierarchyIndex.workspaceOf(HierarchyNode.COMMENT, commentId))
+                .isEqualTo(workspace.getId());
+        assertThat(workspaceGuard.canAccessComment(commentId, member)).isTrue();
+
+        // 카드가 다른 워크스페이스로 옮겨지면 CARD 항목만 바뀌어도 댓글이 따라간다
+        workspaceHierarchyIndex.put(HierarchyNode.CARD, cardId, otherWorkspace.getId());
+
+        assertThat(workspaceHierarchyIndex.workspaceOf(HierarchyNode.COMMENT, commentId))
+                .isEqualTo(otherWorkspace.getId());
+        assertThat(workspaceGuard.canAccessComment(commentId, outsider)).isTrue();
+        assertForbidden(member);
+    }
+
+    @Test
+    void nonMemberIsForbidden() {
+        assertForbidden(outsider);
+        assertThatThrownBy(() -> workspaceGuard.canAccessCard(cardId, outsider))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @Test
+    void missingCommentIsLeftToTheService() {
+        assertThat(workspaceGuard.canAccessComment(commentId + 1_000, outsider)).isTrue();
+    }
+
+    private void assertForbidden(UserDetailsImpl userDetails) {
+        assertThatThrownBy(() -> workspaceGuard.canAccessComment(commentId, userDetails))
+                .isInstanceOfSatisfying(BusinessException.class, e -> {
+                    assertThat(e.getErrorCode()).isEqualTo(ErrorCode.NOT_WORKSPACE_MEMBER);
+                    assertThat(e.getErrorCode().getHttpStatus()).isEqualTo(HttpStatus.FORBIDDEN);
+                });
+    }
+
+    private Workspace persistWorkspace(String name) {
+        Workspace workspace = new Workspace(name, "description");
+        entityManager.persist(workspace);
+        return workspace;
+    }
+
+    private UserDetailsImpl persistMember(String username, Workspace workspace) {
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", username);
+        ReflectionTestUtils.setField(userRequest, "email", username + "@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+        entityManager.persist(new UserWorkspace(user, workspace));
+        return new UserDetailsImpl(user);
+    }
+}
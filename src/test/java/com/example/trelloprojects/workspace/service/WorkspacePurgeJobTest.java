@@ -0,0 +1,154 @@
+package com.example.trelloprojects.workspace.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.trelloprojects.board.cache.BoardSnapshotCache;
+import com.example.trelloprojects.board.dto.BoardRequestDto;
+import com.example.trelloprojects.board.entity.Board;
+import com.example.trelloprojects.board.service.BoardChangeService;
+import com.example.trelloprojects.board.service.BoardSubtreeDeleter;
+import com.example.trelloprojects.card.dto.CardRequestDto;
+import com.example.trelloprojects.card.entity.Card;
+import com.example.trelloprojects.columns.dto.AddColumnsRequest;
+import com.example.trelloprojects.columns.entity.Columns;
+import com.example.trelloprojects.member.entity.Invitation;
+import com.example.trelloprojects.member.entity.UserWorkspace;
+import com.example.trelloprojects.user.dto.AddUserRequest;
+import com.example.trelloprojects.user.entity.User;
+import com.example.trelloprojects.workspace.access.WorkspaceHierarchyIndex;
+import com.example.trelloprojects.workspace.entity.Workspace;
+import com.example.trelloprojects.workspace.entity.WorkspacePurge;
+import com.example.trelloprojects.workspace.enums.WorkspaceStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.globally_quoted_identifiers=true",
+        "workspace.purge.pause=0ms"
+})
+@Import({WorkspacePurgeJob.class, WorkspacePurgeSteps.class, BoardSubtreeDeleter.class,
+        SimpleMeterRegistry.class})
+class WorkspacePurgeJobTest {
+
+    private static final int CARDS_PER_BOARD = 3;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private WorkspacePurgeJob workspacePurgeJob;
+
+    @MockBean
+    private BoardChangeService boardChangeService;
+
+    @MockBean
+    private BoardSnapshotCache boardSnapshotCache;
+
+    @MockBean
+    private WorkspaceHierarchyIndex workspaceHierarchyIndex;
+
+    private User user;
+
+    @Test
+    void resumesFromCheckpointAndSkipsReopenedWorkspace() {
+        user = persistUser();
+        // 중단된 체크포인트가 남은 워크스페이스
+        Workspace interrupted = persistWorkspace("interrupted", LocalDateTime.now().minusDays(40), true);
+        checkpoint(interrupted, LocalDateTime.now().minusMinutes(10));
+        // 체크포인트가 생기기 직전에 복구된 워크스페이스
+        Workspace reopened = persistWorkspace("reopened", null, true);
+        checkpoint(reopened, LocalDateTime.now().minusMinutes(5));
+        // 보드가 없어서 멤버/초대만 지우면 되는 워크스페이스
+        Workspace empty = persistWorkspace("empty", LocalDateTime.now().minusDays(40), false);
+        // 아직 보존 기간 안인 워크스페이스
+        Workspace recent = persistWorkspace("recent", LocalDateTime.now().minusDays(1), true);
+        entityManager.flush();
+        entityManager.clear();
+
+        workspacePurgeJob.purge();
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(entityManager.find(Workspace.class, interrupted.getId())).isNull();
+        assertThat(countOf("Board b WHERE b.workspace.id", interrupted)).isZero();
+        assertThat(countOf("Card c WHERE c.columns.board.workspace.id", interrupted)).isZero();
+        assertThat(countOf("UserWorkspace uw WHERE uw.workspace.id", interrupted)).isZero();
+        assertThat(countOf("Invitation i WHERE i.workspace.id", interrupted)).isZero();
+
+        assertThat(entityManager.find(Workspace.class, reopened.getId()).getStatus())
+                .isEqualTo(WorkspaceStatus.ACTIVE);
+        assertThat(countOf("Card c WHERE c.columns.board.workspace.id", reopened))
+                .isEqualTo(CARDS_PER_BOARD);
+        assertThat(countOf("UserWorkspace uw WHERE uw.workspace.id", reopened)).isEqualTo(1);
+        assertThat(countOf("Invitation i WHERE i.workspace.id", reopened)).isEqualTo(1);
+
+        assertThat(entityManager.find(Workspace.class, empty.getId())).isNull();
+        assertThat(countOf("UserWorkspace uw WHERE uw.workspace.id", empty)).isZero();
+
+        assertThat(entityManager.find(Workspace.class, recent.getId())).isNotNull();
+        assertThat(countOf("UserWorkspace uw WHERE uw.workspace.id", recent)).isEqualTo(1);
+        assertThat(entityManager.createQuery("SELECT COUNT(p) FROM WorkspacePurge p", Long.class)
+                .getSingleResult()).isZero();
+    }
+
+    private long countOf(String fromWhere, Workspace workspace) {
+        return entityManager.createQuery("SELECT COUNT(*) FROM " + fromWhere + " = :workspaceId",
+                        Long.class)
+                .setParameter("workspaceId", workspace.getId())
+                .getSingleResult();
+    }
+
+    private void checkpoint(Workspace workspace, LocalDateTime startedAt) {
+        WorkspacePurge checkpoint = new WorkspacePurge(workspace.getId());
+        ReflectionTestUtils.setField(checkpoint, "startedAt", startedAt);
+        entityManager.persist(checkpoint);
+    }
+
+    // deletedAt 이 null 이면 ACTIVE 워크스페이스
+    private Workspace persistWorkspace(String name, LocalDateTime deletedAt,
+            boolean withBoard) {
+        Workspace workspace = new Workspace(name, "description");
+        if (deletedAt != null) {
+            workspace.delete();
+            ReflectionTestUtils.setField(workspace, "deletedAt", deletedAt);
+        }
+        entityManager.persist(workspace);
+        entityManager.persist(new UserWorkspace(user, workspace));
+        entityManager.persist(new Invitation(user, workspace, "invitee@test.com",
+                name + "-code", LocalDateTime.now().plusDays(7)));
+
+        if (withBoard) {
+            BoardRequestDto boardRequest = new BoardRequestDto();
+            boardRequest.setName(name);
+            Board board = new Board(boardRequest, workspace);
+            entityManager.persist(board);
+
+            AddColumnsRequest columnsRequest = new AddColumnsRequest();
+            ReflectionTestUtils.setField(columnsRequest, "name", "column");
+            Columns columns = new Columns(columnsRequest, 0L, board);
+            entityManager.persist(columns);
+            for (int i = 0; i < CARDS_PER_BOARD; i++) {
+                CardRequestDto cardRequest = new CardRequestDto();
+                cardRequest.setTitle("card" + i);
+                entityManager.persist(new Card(cardRequest, columns, "r" + i));
+            }
+        }
+        return workspace;
+    }
+
+    private User persistUser() {
+        AddUserRequest userRequest = new AddUserRequest();
+        ReflectionTestUtils.setField(userRequest, "username", "member");
+        ReflectionTestUtils.setField(userRequest, "email", "member@test.com");
+        User user = new User(userRequest, "password");
+        entityManager.persist(user);
+        return user;
+    }
+}